@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.benchmark;
+
+import io.github.sebastiantoepfer.ddd.common.Media;
+import io.github.sebastiantoepfer.ddd.common.Printable;
+import io.github.sebastiantoepfer.ddd.media.json.JsonObjectMedia;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.InfoObject;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * printing of a class with pattern properties (x- extensions). printing into a media which discards all values shows
+ * what the generated class itself allocates per print (gc.alloc.rate.norm with -prof gc), which should not grow with
+ * the number of extensions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdditionalValuesBenchmark {
+
+    @Param({ "0", "5", "50" })
+    private int extensions;
+
+    private InfoObject info;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        InfoObject result = new InfoObject("benchmark", "1.0.0").withDescription("api with extensions");
+        for (int i = 0; i < extensions; i++) {
+            result = result.withValue("x-extension" + i, new NamedStringPrintable("name", "value" + i));
+        }
+        info = result;
+    }
+
+    @Benchmark
+    public DiscardingMedia printOnDiscardingMedia() {
+        return info.printOn(DiscardingMedia.INSTANCE);
+    }
+
+    @Benchmark
+    public JsonObjectMedia printOnJsonObjectMedia() {
+        return info.printOn(new JsonObjectMedia());
+    }
+
+    /**
+     * media without any state, to measure the allocations of the printable alone.
+     */
+    public static final class DiscardingMedia implements Media<DiscardingMedia> {
+
+        static final DiscardingMedia INSTANCE = new DiscardingMedia();
+
+        private DiscardingMedia() {}
+
+        @Override
+        public DiscardingMedia withValue(final String name, final LocalDate value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final LocalTime value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final LocalDateTime value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final OffsetTime value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final OffsetDateTime value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final byte[] value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final String value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final int value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final BigInteger value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final long value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final BigDecimal value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final double value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final boolean value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final Printable value) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final Collection<?> values) {
+            return this;
+        }
+
+        @Override
+        public DiscardingMedia withValue(final String name, final DiscardingMedia value) {
+            return this;
+        }
+
+        @Override
+        public MediaAwareSubscriber<DiscardingMedia> byteValueSubscriber(final String name) {
+            throw new UnsupportedOperationException("bytes are not used by the generated classes!");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.benchmark;
+
+import io.github.sebastiantoepfer.ddd.media.json.JsonObjectMedia;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.ContentDescriptorObject;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.ContentDescriptorOrReference;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.InfoObject;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.JsonSchemaOrReference;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.MethodObject;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.MethodOrReference;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.OpenrpcDocument;
+import io.github.sebastiantoepfer.json.rpc.benchmark.openrpc.ReferenceObject;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * what users of the generated classes pay at runtime: creating an open-rpc document, printing it as json and adding
+ * specification extensions. the classes are generated by the plugin with the bundled templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedClassesBenchmark {
+
+    private static final int METHODS = 10;
+    private MethodObject method;
+    private OpenrpcDocument document;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        method = createMethod(0);
+        document = createDocument();
+    }
+
+    /**
+     * a method with three parameters, a result and some optional values.
+     */
+    @Benchmark
+    public MethodObject createMethod() {
+        return createMethod(0);
+    }
+
+    /**
+     * a document with ten methods.
+     */
+    @Benchmark
+    public OpenrpcDocument createDocument() {
+        return new OpenrpcDocument(
+            OpenrpcDocument.Openrpc.Openrpc_130,
+            new InfoObject("benchmark", "1.0.0").withDescription("api to measure the generated classes"),
+            IntStream
+                .range(0, METHODS)
+                .mapToObj(GeneratedClassesBenchmark::createMethod)
+                .<MethodOrReference>map(MethodOrReference.Object::new)
+                .toList()
+        );
+    }
+
+    @Benchmark
+    public JsonObjectMedia printMethod() {
+        return method.printOn(new JsonObjectMedia());
+    }
+
+    @Benchmark
+    public JsonObjectMedia printDocument() {
+        return document.printOn(new JsonObjectMedia());
+    }
+
+    @Benchmark
+    public MethodObject addExtension() {
+        return method.withValue("x-benchmark", new NamedStringPrintable("name", "value"));
+    }
+
+    @Benchmark
+    public JsonObjectMedia addExtensionAndPrint() {
+        return method.withValue("x-benchmark", new NamedStringPrintable("name", "value")).printOn(new JsonObjectMedia());
+    }
+
+    private static MethodObject createMethod(final int number) {
+        return new MethodObject(
+            "method" + number,
+            List.of(parameter("first"), parameter("second"), parameter("third"))
+        )
+            .withSummary("method to benchmark")
+            .withDescription("a method with three parameters")
+            .withResult(parameter("result"))
+            .withDeprecated(false);
+    }
+
+    private static ContentDescriptorOrReference parameter(final String name) {
+        return new ContentDescriptorOrReference.Object(
+            new ContentDescriptorObject(
+                name,
+                new JsonSchemaOrReference.Reference(new ReferenceObject("#/components/schemas/" + name))
+            )
+                .withRequired(true)
+        );
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.JavaClassTemplate;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.CompositeTypeRegistry;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonObjectClassDefinition;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.PrintableAdapters;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.SchemaParser;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.SchemaReferences;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.TypeRegistry;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * the steps of the generation from loading the schema to the rendered classes. classes are rendered into a writer
+ * which discards everything, so no disk io is measured.
+ *
+ * <p>scale is the number of copies of the definitions of the bundled open-rpc schema, one is the bundled schema.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationPipelineBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    public int scale;
+
+    private Path schemaDirectory;
+    private URL schemaUrl;
+    private JsonObject schema;
+    private JsonTypeToJavaTypeMapping typeMapping;
+    private TypeRegistry typeRegistry;
+    private List<JsonObjectClassDefinition> definitions;
+    private Templates templates;
+    private JavaClassTemplate objectClassTemplate;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        schemaDirectory = Files.createTempDirectory("printablejson-benchmark");
+        final Path schemaFile = new ScaledSchema(scale).writeTo(schemaDirectory);
+        schemaUrl = schemaFile.toUri().toURL();
+        schema = loadSchema();
+        typeMapping = new JsonTypeToJavaTypeMapping();
+        typeRegistry = new CompositeTypeRegistry(List.of(typeMapping, new PrintableAdapters()));
+        templates = new Templates((packageName, className) -> Writer.nullWriter());
+        objectClassTemplate = templates.createTemplate(Templates.OBJECT_CLASS_TEMPLATE);
+        definitions = createModel().stream().map(def -> def.withPackage("io.github.benchmark")).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(schemaDirectory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * reads the schema file and parses it twice, once to collect the references and once for the pruned schema.
+     */
+    @Benchmark
+    public JsonObject loadSchema() throws IOException {
+        final JsonSchemaProvider provider = new JsonSchemaProvider(schemaUrl);
+        return provider.loadSchema(
+            provider
+                .references()
+                .stream()
+                .filter(ref -> ref.startsWith("#"))
+                .map(ref -> ref.substring(1))
+                .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * creates the class definitions of the parsed schema, including their lazily computed models.
+     */
+    @Benchmark
+    public void createModel(final Blackhole blackhole) {
+        for (final JsonObjectClassDefinition definition : createModel()) {
+            blackhole.consume(definition.imports());
+            blackhole.consume(definition.properties());
+        }
+    }
+
+    /**
+     * renders the object classes of already created definitions.
+     */
+    @Benchmark
+    public void generateObjectClasses() {
+        definitions.forEach(objectClassTemplate::generate);
+    }
+
+    /**
+     * everything from reading the schema file to the rendered object and alternative classes. the model creator
+     * keeps the loaded schema, so each invocation needs a new one to parse the schema again.
+     */
+    @Benchmark
+    public void generateModel() throws IOException {
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(schemaUrl), new JsonTypeToJavaTypeMapping()),
+            "io.github.benchmark",
+            templates
+        )
+            .generateModel();
+    }
+
+    private List<JsonObjectClassDefinition> createModel() {
+        return new SchemaParser(schema, SchemaReferences.of(schema), typeRegistry, typeMapping).createModel().toList();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * the bundled open-rpc schema with its definitions copied scale times, every copy references only its own
+ * definitions. so a scaled schema produces scale times the classes of the bundled one.
+ */
+final class ScaledSchema {
+
+    private static final String DEFINITION_REF = "#/definitions/";
+    private static final Set<String> SHARED_DEFINITIONS = Set.of("specificationExtension", "JSONSchema");
+    private final int scale;
+
+    ScaledSchema(final int scale) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("scale must be at least one!");
+        }
+        this.scale = scale;
+    }
+
+    /**
+     * writes the scaled schema into the directory.
+     *
+     * @param directory directory to write the schema to
+     * @return file of the written schema
+     * @throws IOException if the bundled schema can not be read or the file not be written
+     */
+    Path writeTo(final Path directory) throws IOException {
+        final Path result = directory.resolve(String.format("open-rpc-meta-schema-%dx.json", scale));
+        try (Writer out = Files.newBufferedWriter(result); JsonWriter writer = Json.createWriter(out)) {
+            writer.writeObject(create());
+        }
+        return result;
+    }
+
+    JsonObject create() throws IOException {
+        final JsonObject bundled = bundledSchema();
+        final JsonObjectBuilder definitions = Json.createObjectBuilder(bundled.getJsonObject("definitions"));
+        for (int copy = 1; copy < scale; copy++) {
+            final String suffix = String.valueOf(copy);
+            for (final Map.Entry<String, JsonValue> definition : bundled.getJsonObject("definitions").entrySet()) {
+                if (!SHARED_DEFINITIONS.contains(definition.getKey())) {
+                    definitions.add(definition.getKey() + suffix, renamed(definition.getValue(), suffix));
+                }
+            }
+        }
+        return Json.createObjectBuilder(bundled).add("definitions", definitions).build();
+    }
+
+    private static JsonValue renamed(final JsonValue value, final String suffix) {
+        final JsonValue result;
+        if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+            final JsonObjectBuilder builder = Json.createObjectBuilder();
+            for (final Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                if (Objects.equals(entry.getKey(), "title") && entry.getValue() instanceof JsonString title) {
+                    builder.add("title", title.getString() + suffix);
+                } else if (Objects.equals(entry.getKey(), "$ref") && entry.getValue() instanceof JsonString ref) {
+                    builder.add("$ref", renamedRef(ref.getString(), suffix));
+                } else {
+                    builder.add(entry.getKey(), renamed(entry.getValue(), suffix));
+                }
+            }
+            result = builder.build();
+        } else if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+            result =
+                value
+                    .asJsonArray()
+                    .stream()
+                    .map(item -> renamed(item, suffix))
+                    .collect(Json::createArrayBuilder, (b, v) -> b.add(v), (l, r) -> l.addAll(r))
+                    .build();
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    private static String renamedRef(final String ref, final String suffix) {
+        final String result;
+        if (ref.startsWith(DEFINITION_REF) && !SHARED_DEFINITIONS.contains(ref.substring(DEFINITION_REF.length()))) {
+            result = ref + suffix;
+        } else {
+            result = ref;
+        }
+        return result;
+    }
+
+    private static JsonObject bundledSchema() throws IOException {
+        try (
+            InputStream in = Objects.requireNonNull(
+                ScaledSchema.class.getClassLoader().getResourceAsStream("open-rpc-meta-schema.json")
+            );
+            JsonReader reader = Json.createReader(in)
+        ) {
+            return reader.readObject();
+        }
+    }
+}
@@ -23,42 +23,397 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
 
+import io.github.sebastiantoepfer.ddd.common.Printable;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedListPrintable;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.JavaClassTemplate;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.AdditionalValue;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.EnumProperty;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonObjectClassDefinition;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.ParameterAlternatives;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.Property;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class CodeGenerator {
 
+    private static final String JSON_WRITABLE_NAME = "JsonWritable";
+    private static final Set<String> BUILDER_TYPE_NAMES = Set.of("Builder", "BuiltValues");
+    private static final Set<String> WRITABLE_VALUE_TYPES = Set.of("String", "boolean", "long");
     private final ModelCreator modelGenerator;
     private final String packageName;
     private final JavaClassTemplate objectClassTemplate;
     private final JavaClassTemplate parameterClassTemplate;
+    private final Templates templates;
+    private final int threads;
+    private final GenerationProfile profile;
 
     public CodeGenerator(final ModelCreator modelGenerator, final String packageName, final Templates templates) {
-        this.objectClassTemplate = templates.createTemplate("default_json_object_class.mustache");
-        this.parameterClassTemplate = templates.createTemplate("parameter_class.mustache");
+        this(modelGenerator, packageName, templates, 1);
+    }
+
+    /**
+     * @param threads number of threads used to render the classes, one means sequential rendering.
+     */
+    public CodeGenerator(
+        final ModelCreator modelGenerator,
+        final String packageName,
+        final Templates templates,
+        final int threads
+    ) {
+        this(modelGenerator, packageName, templates, threads, new GenerationProfile(packageName));
+    }
+
+    /**
+     * @param threads number of threads used to render the classes, one means sequential rendering.
+     * @param profile records the time needed to create the model and to render each class.
+     */
+    CodeGenerator(
+        final ModelCreator modelGenerator,
+        final String packageName,
+        final Templates templates,
+        final int threads,
+        final GenerationProfile profile
+    ) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("at least one thread is needed to generate the classes!");
+        }
+        this.threads = threads;
+        this.templates = Objects.requireNonNull(templates);
+        this.objectClassTemplate = templates.createTemplate(Templates.OBJECT_CLASS_TEMPLATE);
+        this.parameterClassTemplate = templates.createTemplate(Templates.PARAMETER_CLASS_TEMPLATE);
         this.modelGenerator = Objects.requireNonNull(modelGenerator);
         this.packageName = Objects.requireNonNull(packageName);
+        this.profile = Objects.requireNonNull(profile);
+    }
+
+    String templatesFingerprint() throws IOException {
+        return String.join(
+            ":",
+            templates.fingerprintOf(Templates.OBJECT_CLASS_TEMPLATE),
+            templates.fingerprintOf(Templates.PARAMETER_CLASS_TEMPLATE),
+            templates.fingerprintOf(Templates.JSON_WRITABLE_TEMPLATE)
+        );
     }
 
     void generateModel() throws IOException {
-        modelGenerator.createModel().map(def -> def.withPackage(packageName)).forEach(this::generate);
+        final List<ClassToGenerate> classes = profile.measure(GenerationProfile.CREATE_MODEL, this::classesToGenerate);
+        final Map<String, Throwable> failures = profile.measure(
+            GenerationProfile.RENDER,
+            () -> {
+                final Map<String, Throwable> result;
+                if (threads == 1) {
+                    result = generateSequential(classes);
+                } else {
+                    result = generateParallel(classes);
+                }
+                return result;
+            }
+        );
+        if (!failures.isEmpty()) {
+            final IOException thrown = new IOException(
+                String.format("could not generate classes: %s", String.join(", ", failures.keySet()))
+            );
+            failures.values().forEach(thrown::addSuppressed);
+            throw thrown;
+        }
+    }
+
+    private List<ClassToGenerate> classesToGenerate() throws IOException {
+        final List<JsonObjectClassDefinition> definitions = modelGenerator
+            .createModel()
+            .map(def -> def.withPackage(packageName))
+            .map(this::withOptions)
+            .toList();
+        final List<ClassToGenerate> result = new ArrayList<>();
+        definitions.stream().map(def -> new ClassToGenerate(def, objectClassTemplate)).forEach(result::add);
+        alternativesOf(definitions)
+            .stream()
+            .map(def -> new ClassToGenerate(def, parameterClassTemplate))
+            .forEach(result::add);
+        if (templates.isEnabled(TemplateOption.JSON_GENERATOR_WRITER)) {
+            rejectUnwritableProperties(definitions, result);
+            result.add(
+                new ClassToGenerate(
+                    new SupportTypeDefinition(packageName, JSON_WRITABLE_NAME),
+                    templates.createTemplate(Templates.JSON_WRITABLE_TEMPLATE)
+                )
+            );
+        }
+        if (templates.isEnabled(TemplateOption.BUILDER)) {
+            rejectBuilderNameClashes(result);
+        }
+        profile.modelSize(
+            result.size(),
+            definitions.stream().mapToInt(def -> def.properties().size() + def.required().size()).sum()
+        );
+        return result;
+    }
+
+    private JsonObjectClassDefinition withOptions(final JsonObjectClassDefinition definition) {
+        final JsonObjectClassDefinition result;
+        if (templates.isEnabled(TemplateOption.BUILDER)) {
+            result = definition.withBuilder();
+        } else {
+            result = definition;
+        }
+        return result;
     }
 
-    private void generate(final JsonObjectClassDefinition clsDef) {
-        objectClassTemplate.generate(clsDef);
-        generateAlternatives(clsDef);
+    /**
+     * the builder is generated as nested classes Builder and BuiltValues, which would shadow a generated type with
+     * the same name.
+     */
+    private static void rejectBuilderNameClashes(final List<ClassToGenerate> classes) throws IOException {
+        final List<String> clashes = classes
+            .stream()
+            .flatMap(ClassToGenerate::typeNames)
+            .filter(BUILDER_TYPE_NAMES::contains)
+            .distinct()
+            .toList();
+        if (!clashes.isEmpty()) {
+            throw new IOException(
+                String.format("types %s clash with the nested builder classes, builders can not be generated!", clashes)
+            );
+        }
     }
 
-    private void generateAlternatives(final JsonObjectClassDefinition clsDef) {
-        Stream
-            .concat(clsDef.properties().stream(), clsDef.required().stream())
+    /**
+     * JsonWritable can only write the values the printables of the properties accept (String, boolean, long,
+     * Printable and lists of Printable), the writeTo of a class with a property of another type (e.g. Number) can not
+     * be compiled.
+     */
+    private static void rejectUnwritableProperties(
+        final List<JsonObjectClassDefinition> definitions,
+        final List<ClassToGenerate> classes
+    ) throws IOException {
+        final Set<String> printableTypes = Stream
+            .concat(Stream.of(Printable.class.getSimpleName()), classes.stream().map(ClassToGenerate::name))
+            .collect(Collectors.toSet());
+        final List<String> unwritable = new ArrayList<>();
+        for (final JsonObjectClassDefinition definition : definitions) {
+            Stream
+                .concat(definition.required().stream(), definition.properties().stream())
+                .filter(property -> !isWritable(property, printableTypes))
+                .map(property ->
+                    String.format("%s.%s (%s)", definition.objectname(), property.name(), typeOf(property))
+                )
+                .forEach(unwritable::add);
+            if (definition.hasAdditionalValues()) {
+                final String type = definition.additionalValues().type();
+                if (!WRITABLE_VALUE_TYPES.contains(type) && !printableTypes.contains(type)) {
+                    unwritable.add(String.format("%s.additionalValues (%s)", definition.objectname(), type));
+                }
+            }
+        }
+        if (!unwritable.isEmpty()) {
+            throw new IOException(
+                String.format(
+                    "properties %s can not be written by generateJsonGeneratorWriters, only String, boolean, long, " +
+                    "Printable and lists of Printable are supported!",
+                    unwritable
+                )
+            );
+        }
+    }
+
+    private static String typeOf(final Property property) {
+        final String result;
+        if (property.genericType() == null) {
+            result = property.type();
+        } else {
+            result = String.format("%s<%s>", property.type(), property.genericType());
+        }
+        return result;
+    }
+
+    private static boolean isWritable(final Property property, final Set<String> printableTypes) {
+        final boolean result;
+        if (NamedPrintable.class.getSimpleName().equals(property.adapter())) {
+            result = printableTypes.contains(property.type());
+        } else if (NamedListPrintable.class.getSimpleName().equals(property.adapter())) {
+            result = printableTypes.contains(property.genericType());
+        } else {
+            result = true;
+        }
+        return result;
+    }
+
+    /**
+     * alternatives are shared by many properties (e.g. JsonSchemaOrReference), but each class must only be generated
+     * once.
+     */
+    private Collection<ParameterAlternatives> alternativesOf(final List<JsonObjectClassDefinition> definitions)
+        throws IOException {
+        final Map<String, ParameterAlternatives> result = new LinkedHashMap<>();
+        final List<ParameterAlternatives> alternatives = definitions
+            .stream()
+            .flatMap(clsDef -> Stream.concat(clsDef.properties().stream(), clsDef.required().stream()))
             .map(Property::alternatives)
             .filter(Objects::nonNull)
-            .map(def -> def.withPackage(packageName))
-            .forEach(parameterClassTemplate::generate);
+            .toList();
+        for (final ParameterAlternatives alternative : alternatives) {
+            final ParameterAlternatives known = result.putIfAbsent(
+                String.format("%s.%s", alternative.packagename(), alternative.objectname()),
+                alternative
+            );
+            if (known != null && !known.describesSameClassAs(alternative)) {
+                throw new IOException(
+                    String.format(
+                        "different alternatives with the same name %s.%s found!",
+                        alternative.packagename(),
+                        alternative.objectname()
+                    )
+                );
+            }
+        }
+        return result.values();
+    }
+
+    private Map<String, Throwable> generateSequential(final List<ClassToGenerate> classes) {
+        final Map<String, Throwable> failures = new TreeMap<>();
+        for (final ClassToGenerate cls : classes) {
+            try {
+                cls.generate(profile);
+            } catch (RuntimeException e) {
+                failures.put(cls.name(), e);
+            }
+        }
+        return failures;
+    }
+
+    private Map<String, Throwable> generateParallel(final List<ClassToGenerate> classes) throws IOException {
+        final Map<String, Throwable> failures = new TreeMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (final ClassToGenerate cls : classes) {
+                tasks.add(() -> {
+                    cls.generate(profile);
+                    return null;
+                });
+            }
+            final List<Future<Void>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    failures.put(classes.get(i).name(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException thrown = new InterruptedIOException("generation was interrupted!");
+            thrown.initCause(e);
+            throw thrown;
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
+    }
+
+    private static final class ClassToGenerate {
+
+        private final JsonObjectClassDefinition definition;
+        private final JavaClassTemplate template;
+
+        private ClassToGenerate(final JsonObjectClassDefinition definition, final JavaClassTemplate template) {
+            this.definition = definition;
+            this.template = template;
+        }
+
+        String name() {
+            return definition.objectname();
+        }
+
+        Stream<String> typeNames() {
+            return Stream.concat(Stream.of(name()), definition.enums().stream().map(EnumProperty::name));
+        }
+
+        void generate(final GenerationProfile profile) {
+            final long start = System.nanoTime();
+            template.generate(definition);
+            profile.classGenerated(name(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * type without a schema, which is needed by the generated classes (e.g. a common interface).
+     */
+    private static final class SupportTypeDefinition implements JsonObjectClassDefinition {
+
+        private final String targetPackage;
+        private final String typeName;
+
+        private SupportTypeDefinition(final String targetPackage, final String typeName) {
+            this.targetPackage = Objects.requireNonNull(targetPackage);
+            this.typeName = Objects.requireNonNull(typeName);
+        }
+
+        @Override
+        public List<EnumProperty> enums() {
+            return List.of();
+        }
+
+        @Override
+        public Set<String> imports() {
+            return Set.of();
+        }
+
+        @Override
+        public String objectname() {
+            return typeName;
+        }
+
+        @Override
+        public List<Property> properties() {
+            return List.of();
+        }
+
+        @Override
+        public List<Property> required() {
+            return List.of();
+        }
+
+        @Override
+        public String packagename() {
+            return targetPackage;
+        }
+
+        @Override
+        public JsonObjectClassDefinition withPackage(final String otherPackage) {
+            return new SupportTypeDefinition(otherPackage, typeName);
+        }
+
+        @Override
+        public JsonObjectClassDefinition withBuilder() {
+            return this;
+        }
+
+        @Override
+        public boolean hasAdditionalValues() {
+            return false;
+        }
+
+        @Override
+        public AdditionalValue additionalValues() {
+            return null;
+        }
     }
 }
@@ -23,11 +23,43 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
 
-import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.JavaClassOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.GeneratedSourcesCompiler;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.SourceArchiveOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.CompositeTypeRegistry;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.PrintableAdapters;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -41,33 +73,198 @@ import org.apache.maven.project.MavenProject;
     name = "generate",
     defaultPhase = LifecyclePhase.GENERATE_SOURCES,
     threadSafe = true,
-    requiresDependencyResolution = ResolutionScope.RUNTIME
+    requiresDependencyResolution = ResolutionScope.COMPILE
 )
 public class GenerateMojo extends AbstractMojo {
 
+    private static final String COMPILE_MANIFEST = "compiled-classes.properties";
+
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
 
-    @Parameter(required = true)
+    /**
+     * package of the generated classes if only one schema is used, use schemaSets for more.
+     */
+    @Parameter
     private String packageName;
 
     @Parameter
     private URL schemaUrl;
 
+    /**
+     * schemas and their packages to generate in one execution, the schema sets are generated concurrently.
+     */
+    @Parameter
+    private List<SchemaSet> schemaSets;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/printablejson")
     private File sourceDestDir;
 
+    /**
+     * cache schemas loaded via http(s), so that not every build needs to download them.
+     */
+    @Parameter(property = "printablejson.schemaCache", defaultValue = "true")
+    private boolean schemaCache;
+
+    @Parameter(
+        property = "printablejson.schemaCacheDirectory",
+        defaultValue = "${settings.localRepository}/.cache/json-printable-maven-plugin/schemas"
+    )
+    private File schemaCacheDirectory;
+
+    /**
+     * seconds a cached schema is used without asking the server if it has changed.
+     */
+    @Parameter(property = "printablejson.schemaCacheTtl", defaultValue = "3600")
+    private long schemaCacheTtl;
+
+    /**
+     * seconds to wait for the connection to and the answer of a server serving a schema, the cached copy is used if
+     * the server does not answer in time.
+     */
+    @Parameter(property = "printablejson.schemaCacheTimeout", defaultValue = "5")
+    private long schemaCacheTimeout;
+
+    @Parameter(defaultValue = "${settings.offline}", readonly = true)
+    private boolean offline;
+
+    /**
+     * directory to remember the fingerprint and the generated classes of the last execution per package (and the
+     * compiled classes with compile).
+     */
+    @Parameter(defaultValue = "${project.build.directory}/printablejson")
+    private File manifestDirectory;
+
+    /**
+     * skip the generation if schema, package, templates and plugin version are unchanged since the last execution
+     * and only rewrite classes whose content has changed.
+     */
+    @Parameter(property = "printablejson.incremental", defaultValue = "true")
+    private boolean incremental;
+
+    /**
+     * render and write the classes concurrently.
+     */
+    @Parameter(property = "printablejson.parallel", defaultValue = "false")
+    private boolean parallel;
+
+    /**
+     * number of threads used if generating in parallel, zero or less means one thread per available processor.
+     */
+    @Parameter(property = "printablejson.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * compile the bundled templates before the generation starts, compiled templates are shared by all executions
+     * inside the same jvm (e.g. a maven daemon).
+     */
+    @Parameter(property = "printablejson.precompileTemplates", defaultValue = "true")
+    private boolean precompileTemplates;
+
+    /**
+     * generate a mutable builder per class in addition to the immutable withXxx methods.
+     */
+    @Parameter(property = "printablejson.generateBuilders", defaultValue = "false")
+    private boolean generateBuilders;
+
+    /**
+     * generates a writeTo(JsonGenerator) per class, the generated code needs media-json-api at runtime.
+     */
+    @Parameter(property = "printablejson.generateJsonGeneratorWriters", defaultValue = "false")
+    private boolean generateJsonGeneratorWriters;
+
+    /**
+     * generates all classes into this single sources archive (e.g. a jar) instead of one file per class into the
+     * sourceDestDir. the archive is not added as source root, because the compiler can not read sources from it, so
+     * it needs compile.
+     */
+    @Parameter(property = "printablejson.sourceArchive")
+    private File sourceArchive;
+
+    /**
+     * time of the entries in the sourceArchive, so the archive is only rewritten if a class has changed.
+     */
+    @Parameter(defaultValue = "${project.build.outputTimestamp}")
+    private String outputTimestamp;
+
+    /**
+     * compiles the generated classes in this execution into the classes directory instead of adding them as source
+     * root, so the compiler plugin does not need to read them again. the sources are only written if a
+     * sourceArchive is configured.
+     */
+    @Parameter(property = "printablejson.compile", defaultValue = "false")
+    private boolean compile;
+
+    /**
+     * java release of the compiled classes, falls back to maven.compiler.target and maven.compiler.source.
+     */
+    @Parameter(property = "printablejson.compileRelease", defaultValue = "${maven.compiler.release}")
+    private String compileRelease;
+
+    @Parameter(defaultValue = "${maven.compiler.target}", readonly = true)
+    private String compilerTarget;
+
+    @Parameter(defaultValue = "${maven.compiler.source}", readonly = true)
+    private String compilerSource;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", readonly = true)
+    private File classesDirectory;
+
+    /**
+     * logs the timings and sizes of the generation per schema set and writes them to the profileReport.
+     */
+    @Parameter(property = "printablejson.profile", defaultValue = "false")
+    private boolean profile;
+
+    @Parameter(
+        property = "printablejson.profileReport",
+        defaultValue = "${project.build.directory}/printablejson-profile.json"
+    )
+    private File profileReport;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         getLog().debug("> execute");
         try {
-            new CodeGenerator(
-                new ModelCreator(new JsonSchemaProvider(schemaUrl), new JsonTypeToJavaTypeMapping()),
-                packageName,
-                new Templates(new JavaClassOutput(sourceDestDir.toPath()))
-            )
-                .generateModel();
-            addSourceRoot();
+            if (sourceArchive != null && !compile) {
+                throw new MojoExecutionException(
+                    "sourceArchive needs compile, because the generated classes are not written to sourceDestDir!"
+                );
+            }
+            if (precompileTemplates) {
+                Templates.precompileBundledTemplates();
+            }
+            final SourceArchiveOutput archiveOutput = sourceArchiveOutput();
+            final List<SchemaSetGeneration> generations = generationsOf(schemaSetsToGenerate(), archiveOutput);
+            if (isCompiledUpToDate(generations)) {
+                getLog().info(String.format("compiled classes in %s are up to date", classesDirectory));
+            } else {
+                for (final String summary : generate(generations)) {
+                    getLog().info(summary);
+                }
+                reportProfiles(generations.stream().map(SchemaSetGeneration::profile).toList());
+                if (archiveOutput == null) {
+                    addSourceRoot();
+                } else {
+                    if (sourceArchive == null) {
+                        getLog().debug("no sourceArchive configured");
+                    } else if (archiveOutput.writeTo(sourceArchive.toPath(), archiveEntryTime())) {
+                        getLog()
+                            .info(
+                                String.format("%d classes written to %s", archiveOutput.sources().size(), sourceArchive)
+                            );
+                    } else {
+                        getLog().info(String.format("%s is up to date", sourceArchive));
+                    }
+                    if (compile) {
+                        compile(archiveOutput.sources());
+                        storeCompileManifest(generations, archiveOutput.sources().keySet());
+                    }
+                }
+            }
             getLog().debug("< execute");
         } catch (IOException e) {
             final MojoExecutionException thrown = new MojoExecutionException(e.getLocalizedMessage(), e);
@@ -76,6 +273,323 @@ public class GenerateMojo extends AbstractMojo {
         }
     }
 
+    private List<SchemaSet> schemaSetsToGenerate() throws MojoExecutionException {
+        final List<SchemaSet> result;
+        if (schemaSets == null || schemaSets.isEmpty()) {
+            result = List.of(new SchemaSet(schemaUrl, null, packageName));
+        } else if (packageName == null && schemaUrl == null) {
+            result = List.copyOf(schemaSets);
+        } else {
+            throw new MojoExecutionException("use either schemaSets or schemaUrl and packageName!");
+        }
+        final Set<String> packageNames = new HashSet<>();
+        for (final SchemaSet schemaSet : result) {
+            if (!schemaSet.isValid()) {
+                throw new MojoExecutionException(
+                    String.format("%s needs a packageName and at most one of schemaUrl and schemaFile!", schemaSet)
+                );
+            }
+            if (!packageNames.add(schemaSet.packageName())) {
+                throw new MojoExecutionException(
+                    String.format("packageName %s is used by more than one schema set!", schemaSet.packageName())
+                );
+            }
+        }
+        return result;
+    }
+
+    private List<SchemaSetGeneration> generationsOf(
+        final List<SchemaSet> sets,
+        final SourceArchiveOutput archiveOutput
+    ) throws IOException {
+        final JsonTypeToJavaTypeMapping typeMapping = new JsonTypeToJavaTypeMapping();
+        final PrintableAdapters printableAdapters = new PrintableAdapters();
+        final RemoteSchemaCache remoteSchemaCache = remoteSchemaCache();
+        final Map<String, JsonSchemaProvider> schemaProviders = new HashMap<>();
+        final List<SchemaSetGeneration> generations = new ArrayList<>();
+        for (final SchemaSet schemaSet : sets) {
+            final URL url = schemaSet.schemaUrl();
+            generations.add(
+                new SchemaSetGeneration(
+                    new ModelCreator(
+                        schemaProviders.computeIfAbsent(
+                            String.valueOf(url),
+                            key -> new JsonSchemaProvider(url, remoteSchemaCache)
+                        ),
+                        typeMapping,
+                        //the registry caches the names of the typeables of one schema set, which are dropped with it
+                        new CompositeTypeRegistry(List.of(typeMapping, printableAdapters))
+                    ),
+                    schemaSet.packageName(),
+                    sourceDestDir.toPath(),
+                    manifestDirectory.toPath().resolve(schemaSet.packageName() + ".properties"),
+                    incremental,
+                    pluginVersion,
+                    renderThreads(),
+                    templateOptions(),
+                    archiveOutput,
+                    profile || getLog().isDebugEnabled()
+                )
+            );
+        }
+        return generations;
+    }
+
+    private List<String> generate(final List<SchemaSetGeneration> generations) throws IOException {
+        final List<String> result;
+        if (generations.size() == 1) {
+            result = List.of(generations.get(0).call());
+        } else {
+            result = generateConcurrently(generations);
+        }
+        return result;
+    }
+
+    private List<String> generateConcurrently(final List<SchemaSetGeneration> generations) throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(generations.size(), Runtime.getRuntime().availableProcessors())
+        );
+        try {
+            final List<String> result = new ArrayList<>();
+            for (final Future<String> generation : executor.invokeAll(generations)) {
+                result.add(generation.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else {
+                throw new IOException(cause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException thrown = new InterruptedIOException("generation interrupted");
+            thrown.initCause(e);
+            throw thrown;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void reportProfiles(final List<GenerationProfile> profiles) throws IOException {
+        for (final GenerationProfile generationProfile : profiles) {
+            if (profile) {
+                getLog().info(generationProfile.summary());
+            } else if (getLog().isDebugEnabled()) {
+                getLog().debug(generationProfile.summary());
+            }
+        }
+        if (profile) {
+            GenerationProfile.writeReport(profileReport.toPath(), profiles);
+            getLog().info(String.format("profile written to %s", profileReport));
+        }
+    }
+
+    private SourceArchiveOutput sourceArchiveOutput() {
+        final SourceArchiveOutput result;
+        if (sourceArchive == null && !compile) {
+            result = null;
+        } else {
+            result = new SourceArchiveOutput();
+        }
+        return result;
+    }
+
+    /**
+     * the output timestamp is either seconds since the epoch or an iso 8601 date time, a single character disables it
+     * (like in the maven archiver).
+     */
+    private Instant archiveEntryTime() throws MojoExecutionException {
+        final Instant result;
+        if (outputTimestamp == null || outputTimestamp.length() < 2) {
+            result = SourceArchiveOutput.DEFAULT_ENTRY_TIME;
+        } else if (outputTimestamp.chars().allMatch(Character::isDigit)) {
+            result = Instant.ofEpochSecond(Long.parseLong(outputTimestamp));
+        } else {
+            try {
+                result = OffsetDateTime.parse(outputTimestamp).toInstant();
+            } catch (DateTimeParseException e) {
+                throw new MojoExecutionException(
+                    String.format("invalid project.build.outputTimestamp %s!", outputTimestamp),
+                    e
+                );
+            }
+        }
+        return result;
+    }
+
+    private void compile(final Map<String, String> sources)
+        throws IOException, MojoExecutionException, MojoFailureException {
+        final Map<String, List<String>> errors = new GeneratedSourcesCompiler(compileClasspath(), release())
+            .compile(sources, classesDirectory.toPath());
+        if (errors.isEmpty()) {
+            getLog().info(String.format("%d classes compiled into %s", sources.size(), classesDirectory));
+        } else {
+            errors.forEach((className, messages) ->
+                messages.forEach(message -> getLog().error(String.format("%s %s", className, message)))
+            );
+            throw new MojoFailureException(
+                String.format("%d generated classes can not be compiled: %s", errors.size(), errors.keySet())
+            );
+        }
+    }
+
+    /**
+     * the generation and compilation is skipped as a whole, if no schema set has changed since the last build and the
+     * class files (and the sourceArchive) are still there unmodified. without it every build would compile all
+     * classes again.
+     */
+    private boolean isCompiledUpToDate(final List<SchemaSetGeneration> generations)
+        throws IOException, MojoExecutionException {
+        boolean result = compile && incremental;
+        final List<String> fingerprints = new ArrayList<>();
+        final Iterator<SchemaSetGeneration> generation = generations.iterator();
+        while (result && generation.hasNext()) {
+            final Optional<String> fingerprint = generation.next().unchangedFingerprint();
+            fingerprint.ifPresent(fingerprints::add);
+            result = fingerprint.isPresent();
+        }
+        return (
+            result &&
+            (sourceArchive == null || Files.isRegularFile(sourceArchive.toPath())) &&
+            GenerationManifest
+                .load(compileManifestFile())
+                .isUpToDate(compileFingerprint(fingerprints), classesDirectory.toPath(), "class")
+        );
+    }
+
+    private void storeCompileManifest(final List<SchemaSetGeneration> generations, final Set<String> classNames)
+        throws IOException, MojoExecutionException {
+        if (incremental) {
+            final Map<String, String> classFiles = new HashMap<>();
+            for (final String className : classNames) {
+                classFiles.putAll(classFilesOf(className));
+            }
+            new GenerationManifest(
+                compileFingerprint(generations.stream().map(SchemaSetGeneration::fingerprint).toList()),
+                List.of(),
+                classFiles
+            )
+                .store(compileManifestFile());
+        }
+    }
+
+    /**
+     * hashes of the class files of a class and its nested classes by binary name.
+     */
+    private Map<String, String> classFilesOf(final String className) throws IOException {
+        final int simpleNameStart = className.lastIndexOf('.') + 1;
+        final String packageName = className.substring(0, Math.max(simpleNameStart - 1, 0));
+        final String simpleName = className.substring(simpleNameStart);
+        final Path packageDirectory = classesDirectory.toPath().resolve(packageName.replace('.', '/'));
+        final Map<String, String> result = new HashMap<>();
+        try (
+            DirectoryStream<Path> classFiles = Files.newDirectoryStream(
+                packageDirectory,
+                String.format("{%s.class,%s$*.class}", simpleName, simpleName)
+            )
+        ) {
+            for (final Path classFile : classFiles) {
+                final String fileName = String.valueOf(classFile.getFileName());
+                result.put(
+                    String.format("%s.%s", packageName, fileName.substring(0, fileName.length() - ".class".length())),
+                    new ContentHash(Files.readAllBytes(classFile)).toHex()
+                );
+            }
+        }
+        return result;
+    }
+
+    private String compileFingerprint(final List<String> schemaSetFingerprints) throws MojoExecutionException {
+        return new ContentHash(
+            Stream
+                .of(
+                    Stream.of(release()),
+                    compileClasspath().stream().map(Path::toString),
+                    schemaSetFingerprints.stream()
+                )
+                .flatMap(Function.identity())
+                .collect(Collectors.joining("\n"))
+        )
+            .toHex();
+    }
+
+    private Path compileManifestFile() {
+        return manifestDirectory.toPath().resolve(COMPILE_MANIFEST);
+    }
+
+    /**
+     * the classes must not be compiled for the release of the jdk maven runs with, because the project could be built
+     * for an older one.
+     */
+    private String release() throws MojoExecutionException {
+        final String result = Stream
+            .of(compileRelease, compilerTarget, compilerSource)
+            .filter(Objects::nonNull)
+            .map(String::strip)
+            .filter(Predicate.not(String::isEmpty))
+            .findFirst()
+            .map(version -> version.replaceFirst("^1\\.", ""))
+            .orElseThrow(() ->
+                new MojoExecutionException(
+                    "compile needs a compileRelease, maven.compiler.release, maven.compiler.target or " +
+                    "maven.compiler.source!"
+                )
+            );
+        getLog().debug(String.format("compile for release %s", result));
+        return result;
+    }
+
+    private List<Path> compileClasspath() throws MojoExecutionException {
+        try {
+            return project.getCompileClasspathElements().stream().map(Path::of).toList();
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    private RemoteSchemaCache remoteSchemaCache() {
+        final RemoteSchemaCache result;
+        if (schemaCache) {
+            result =
+                new RemoteSchemaCache(
+                    schemaCacheDirectory.toPath(),
+                    Duration.ofSeconds(schemaCacheTtl),
+                    Duration.ofSeconds(schemaCacheTimeout),
+                    offline
+                );
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    private Set<TemplateOption> templateOptions() {
+        final Set<TemplateOption> result = EnumSet.noneOf(TemplateOption.class);
+        if (generateBuilders) {
+            result.add(TemplateOption.BUILDER);
+        }
+        if (generateJsonGeneratorWriters) {
+            result.add(TemplateOption.JSON_GENERATOR_WRITER);
+        }
+        return result;
+    }
+
+    private int renderThreads() {
+        final int result;
+        if (!parallel) {
+            result = 1;
+        } else if (threads > 0) {
+            result = threads;
+        } else {
+            result = Runtime.getRuntime().availableProcessors();
+        }
+        return result;
+    }
+
     private void addSourceRoot() {
         getLog().debug("> addSourceRoot");
         addSource(sourceDestDir.getAbsolutePath());
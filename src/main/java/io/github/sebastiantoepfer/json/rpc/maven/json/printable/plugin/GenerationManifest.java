@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * remembers what the last generation was made of (fingerprint of schema, plugin and templates and the documents of
+ * the schema) and which classes it produced, so that the next build can skip the generation or at least untouched
+ * classes.
+ */
+final class GenerationManifest {
+
+    private static final Logger LOG = Logger.getLogger(GenerationManifest.class.getName());
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String CLASS_PREFIX = "class.";
+    private static final String DOCUMENT_PREFIX = "document.";
+
+    private final String fingerprint;
+    private final List<URI> documents;
+    private final Map<String, String> classHashes;
+
+    static GenerationManifest load(final Path manifestFile) throws IOException {
+        LOG.entering(GenerationManifest.class.getName(), "load", manifestFile);
+        final GenerationManifest result;
+        if (Files.isRegularFile(manifestFile)) {
+            final Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(manifestFile)) {
+                properties.load(in);
+            }
+            result =
+                new GenerationManifest(
+                    properties.getProperty(FINGERPRINT, ""),
+                    properties
+                        .stringPropertyNames()
+                        .stream()
+                        .filter(key -> key.startsWith(DOCUMENT_PREFIX))
+                        .sorted(
+                            Comparator.comparingInt(key -> Integer.parseInt(key.substring(DOCUMENT_PREFIX.length())))
+                        )
+                        .map(key -> URI.create(properties.getProperty(key)))
+                        .toList(),
+                    properties
+                        .stringPropertyNames()
+                        .stream()
+                        .filter(key -> key.startsWith(CLASS_PREFIX))
+                        .collect(toMap(key -> key.substring(CLASS_PREFIX.length()), properties::getProperty))
+                );
+        } else {
+            LOG.log(Level.FINE, "no manifest found.");
+            result = new GenerationManifest("", Map.of());
+        }
+        LOG.exiting(GenerationManifest.class.getName(), "load", result);
+        return result;
+    }
+
+    GenerationManifest(final String fingerprint, final Map<String, String> classHashes) {
+        this(fingerprint, List.of(), classHashes);
+    }
+
+    /**
+     * @param documents the schema and the documents it references, which are needed to check the fingerprint of
+     *     the next build without parsing the schema.
+     */
+    GenerationManifest(final String fingerprint, final List<URI> documents, final Map<String, String> classHashes) {
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+        this.documents = List.copyOf(documents);
+        this.classHashes = Map.copyOf(classHashes);
+    }
+
+    /**
+     * the schema and the documents it referenced when the manifest was created.
+     */
+    List<URI> documents() {
+        return documents;
+    }
+
+    /**
+     * checks if the manifest was created with the given fingerprint, without looking at the classes.
+     */
+    boolean hasFingerprint(final String fingerprint) {
+        return !classHashes.isEmpty() && Objects.equals(this.fingerprint, fingerprint);
+    }
+
+    /**
+     * checks if the manifest was created with the given fingerprint and all classes still exist unmodified.
+     */
+    boolean isUpToDate(final String fingerprint, final Path srcDirectory) throws IOException {
+        return isUpToDate(fingerprint, srcDirectory, "java");
+    }
+
+    /**
+     * checks if the manifest was created with the given fingerprint and all files of the classes with the given
+     * extension (e.g. class for compiled classes, recorded by their binary names) still exist unmodified.
+     */
+    boolean isUpToDate(final String fingerprint, final Path directory, final String extension) throws IOException {
+        boolean result = hasFingerprint(fingerprint);
+        final Iterator<Map.Entry<String, String>> classHash = classHashes.entrySet().iterator();
+        while (result && classHash.hasNext()) {
+            final Map.Entry<String, String> next = classHash.next();
+            result = isUnmodified(fileOf(directory, next.getKey(), extension), next.getValue());
+        }
+        return result;
+    }
+
+    private static boolean isUnmodified(final Path sourceFile, final String hash) throws IOException {
+        final boolean result;
+        if (Files.isRegularFile(sourceFile)) {
+            result = Objects.equals(new ContentHash(Files.readAllBytes(sourceFile)).toHex(), hash);
+            if (!result) {
+                LOG.log(Level.FINE, () -> String.format("%s has been modified.", sourceFile));
+            }
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * deletes all classes of this manifest which are not part of the given (newer) one.
+     */
+    void deleteClassesNotIn(final GenerationManifest newer, final Path srcDirectory) throws IOException {
+        final Set<String> stillGenerated = newer.classHashes.keySet();
+        for (final String cls : classHashes.keySet().stream().filter(not(stillGenerated::contains)).toList()) {
+            LOG.log(Level.FINE, () -> String.format("delete no longer generated class %s.", cls));
+            Files.deleteIfExists(fileOf(srcDirectory, cls, "java"));
+        }
+    }
+
+    void store(final Path manifestFile) throws IOException {
+        LOG.entering(GenerationManifest.class.getName(), "store", manifestFile);
+        final Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        for (int i = 0; i < documents.size(); i++) {
+            properties.setProperty(DOCUMENT_PREFIX.concat(String.valueOf(i)), documents.get(i).toString());
+        }
+        new TreeMap<>(classHashes).forEach((cls, hash) -> properties.setProperty(CLASS_PREFIX.concat(cls), hash));
+        final Path manifestDirectory = manifestFile.toAbsolutePath().getParent();
+        if (manifestDirectory != null) {
+            Files.createDirectories(manifestDirectory);
+        }
+        try (OutputStream out = Files.newOutputStream(manifestFile)) {
+            properties.store(out, "json-printable-maven-plugin generation manifest");
+        }
+        LOG.exiting(GenerationManifest.class.getName(), "store");
+    }
+
+    private static Path fileOf(final Path directory, final String fullQualifiedClassName, final String extension) {
+        return directory.resolve(String.format("%s.%s", fullQualifiedClassName.replace('.', '/'), extension));
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOutput;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonWriter;
+import jakarta.json.stream.JsonGenerator;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * timings and sizes of the generation of one schema set, to find out where the time of a slow generation goes:
+ * reading the schema, creating the model, rendering the classes or writing them.
+ */
+final class GenerationProfile {
+
+    static final String READ_SCHEMA = "readSchema";
+    static final String CREATE_MODEL = "createModel";
+    static final String RENDER = "render";
+    static final String MANIFEST = "manifest";
+
+    private static final Logger LOG = Logger.getLogger(GenerationProfile.class.getName());
+    private static final int SLOWEST_CLASSES = 5;
+
+    private final String packageName;
+    private final boolean measuringOutput;
+    private final Map<String, Long> phases;
+    private final Map<String, ClassProfile> classes;
+    private boolean upToDate;
+    private int modelClasses;
+    private int modelProperties;
+    private int classesWritten;
+
+    GenerationProfile(final String packageName) {
+        this(packageName, false);
+    }
+
+    /**
+     * @param measuringOutput true if the time to write each class should be measured, which costs a wrapper per class.
+     */
+    GenerationProfile(final String packageName, final boolean measuringOutput) {
+        this.packageName = Objects.requireNonNull(packageName);
+        this.measuringOutput = measuringOutput;
+        this.phases = new LinkedHashMap<>();
+        this.classes = new ConcurrentHashMap<>();
+    }
+
+    static void writeReport(final Path reportFile, final List<GenerationProfile> profiles) throws IOException {
+        LOG.entering(GenerationProfile.class.getName(), "writeReport", reportFile);
+        final JsonArrayBuilder schemaSets = Json.createArrayBuilder();
+        profiles.stream().map(GenerationProfile::toJson).forEach(schemaSets::add);
+        final Path parent = reportFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (
+            OutputStream out = Files.newOutputStream(reportFile);
+            JsonWriter writer = Json
+                .createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true))
+                .createWriter(out, StandardCharsets.UTF_8)
+        ) {
+            writer.writeObject(
+                Json
+                    .createObjectBuilder()
+                    .add(
+                        "maxModelClasses",
+                        profiles.stream().mapToInt(profile -> profile.modelClasses).max().orElse(0)
+                    )
+                    .add("schemaSets", schemaSets)
+                    .build()
+            );
+        }
+        LOG.exiting(GenerationProfile.class.getName(), "writeReport");
+    }
+
+    /**
+     * runs the action and adds its duration to the given phase.
+     */
+    <T> T measure(final String phase, final Measured<T> action) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return action.call();
+        } finally {
+            final long duration = System.nanoTime() - start;
+            synchronized (phases) {
+                phases.merge(phase, duration, Long::sum);
+            }
+        }
+    }
+
+    synchronized void upToDate() {
+        upToDate = true;
+    }
+
+    synchronized void modelSize(final int classes, final int properties) {
+        modelClasses = classes;
+        modelProperties = properties;
+    }
+
+    /**
+     * records the classes which have really been written, classes which are unchanged on disk are not part of it.
+     *
+     * @param bytesByClass size in bytes by full qualified class name
+     */
+    synchronized void classesWritten(final Map<String, Integer> bytesByClass) {
+        classesWritten = bytesByClass.size();
+        bytesByClass.forEach((className, bytes) ->
+            classes.merge(
+                className.substring(className.lastIndexOf('.') + 1),
+                new ClassProfile(0, 0, bytes, true),
+                ClassProfile::plus
+            )
+        );
+    }
+
+    /**
+     * records the whole time needed to generate a class, including the time to write it.
+     */
+    void classGenerated(final String className, final long nanos) {
+        classes.merge(className, new ClassProfile(nanos, 0, 0, false), ClassProfile::plus);
+    }
+
+    /**
+     * output which records the time needed to write each class into the given output, the given output itself if
+     * the output is not measured.
+     */
+    TemplateOutput measuring(final TemplateOutput delegate) {
+        final TemplateOutput result;
+        if (measuringOutput) {
+            result =
+                (targetPackage, className) ->
+                    new MeasuringWriter(className, delegate.createWriterFor(targetPackage, className));
+        } else {
+            result = delegate;
+        }
+        return result;
+    }
+
+    synchronized String summary() {
+        final String result;
+        if (upToDate) {
+            result = String.format("%s: up to date, %s", packageName, phasesSummary());
+        } else {
+            result =
+                String.format(
+                    "%s: %s, io %d ms; %d classes (%d written, %d unchanged), %d bytes written; " +
+                    "model of %d classes with %d properties; slowest classes: %s",
+                    packageName,
+                    phasesSummary(),
+                    millis(classes.values().stream().mapToLong(ClassProfile::ioNanos).sum()),
+                    classes.size(),
+                    classesWritten,
+                    classes.size() - classesWritten,
+                    classes.values().stream().mapToLong(ClassProfile::bytes).sum(),
+                    modelClasses,
+                    modelProperties,
+                    slowestClasses()
+                );
+        }
+        return result;
+    }
+
+    synchronized JsonObject toJson() {
+        final JsonObjectBuilder phasesInMillis = Json.createObjectBuilder();
+        synchronized (phases) {
+            phases.forEach((phase, nanos) -> phasesInMillis.add(phase, millis(nanos)));
+        }
+        final JsonArrayBuilder classesAsJson = Json.createArrayBuilder();
+        classes
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(e ->
+                Json
+                    .createObjectBuilder()
+                    .add("name", e.getKey())
+                    .add("renderMillis", millis(e.getValue().renderNanos()))
+                    .add("ioMillis", millis(e.getValue().ioNanos()))
+                    .add("bytes", e.getValue().bytes())
+                    .add("written", e.getValue().written())
+            )
+            .forEach(classesAsJson::add);
+        return Json
+            .createObjectBuilder()
+            .add("packageName", packageName)
+            .add("upToDate", upToDate)
+            .add("phasesMillis", phasesInMillis)
+            .add("classesGenerated", classes.size())
+            .add("classesWritten", classesWritten)
+            .add("bytesWritten", classes.values().stream().mapToLong(ClassProfile::bytes).sum())
+            .add("modelClasses", modelClasses)
+            .add("modelProperties", modelProperties)
+            .add("classes", classesAsJson)
+            .build();
+    }
+
+    private String phasesSummary() {
+        synchronized (phases) {
+            return phases
+                .entrySet()
+                .stream()
+                .map(e -> String.format("%s %d ms", e.getKey(), millis(e.getValue())))
+                .collect(Collectors.joining(", "));
+        }
+    }
+
+    private String slowestClasses() {
+        return classes
+            .entrySet()
+            .stream()
+            .sorted(
+                Comparator
+                    .comparingLong((Map.Entry<String, ClassProfile> e) -> e.getValue().renderNanos())
+                    .reversed()
+                    .thenComparing(Map.Entry.comparingByKey())
+            )
+            .limit(SLOWEST_CLASSES)
+            .map(e -> String.format("%s (%d ms)", e.getKey(), millis(e.getValue().renderNanos())))
+            .collect(Collectors.joining(", "));
+    }
+
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @FunctionalInterface
+    interface Measured<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * @param totalNanos time to render and write the class
+     * @param ioNanos time to write the class
+     * @param bytes size of the written class
+     * @param written true if the class was written (it has changed)
+     */
+    private record ClassProfile(long totalNanos, long ioNanos, long bytes, boolean written) {
+        long renderNanos() {
+            return Math.max(0, totalNanos - ioNanos);
+        }
+
+        ClassProfile plus(final ClassProfile other) {
+            return new ClassProfile(
+                totalNanos + other.totalNanos,
+                ioNanos + other.ioNanos,
+                bytes + other.bytes,
+                written || other.written
+            );
+        }
+    }
+
+    /**
+     * measures only the time to write the class, the outputs buffer the class and write it when it is closed.
+     */
+    private final class MeasuringWriter extends FilterWriter {
+
+        private final String className;
+        private boolean closed;
+
+        MeasuringWriter(final String className, final Writer delegate) {
+            super(delegate);
+            this.className = className;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                final long start = System.nanoTime();
+                super.close();
+                classes.merge(className, new ClassProfile(0, System.nanoTime() - start, 0, false), ClassProfile::plus);
+            }
+        }
+    }
+}
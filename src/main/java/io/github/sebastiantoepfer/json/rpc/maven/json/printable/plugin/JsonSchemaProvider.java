@@ -23,12 +23,18 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
 
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,36 +42,145 @@ final class JsonSchemaProvider {
 
     private static final Logger LOG = Logger.getLogger(JsonSchemaProvider.class.getName());
     private final URL schemaUrl;
+    private final RemoteSchemaCache cache;
+    private byte[] content;
+    private String fingerprint;
 
     public JsonSchemaProvider() {
         this(null);
     }
 
     public JsonSchemaProvider(final URL schemaUrl) {
+        this(schemaUrl, null);
+    }
+
+    public JsonSchemaProvider(final URL schemaUrl, final RemoteSchemaCache cache) {
         this.schemaUrl = schemaUrl;
+        this.cache = cache;
     }
 
-    public JsonObject loadSchema() throws IOException {
-        LOG.entering(JsonSchemaProvider.class.getName(), "loadSchema");
+    /**
+     * all $ref values of the schema, needed to find out which subtrees of this and the referenced documents must be
+     * kept by {@link #loadSchema(Set)}.
+     *
+     * @return references of the schema
+     * @throws IOException if the schema can not be read
+     */
+    public Set<String> references() throws IOException {
+        LOG.entering(JsonSchemaProvider.class.getName(), "references");
+        final Set<String> result;
+        try (JsonParser parser = Json.createParser(new ByteArrayInputStream(schemaContent()))) {
+            result = PrunedSchemaReader.references(parser);
+        }
+        LOG.exiting(JsonSchemaProvider.class.getName(), "references", result);
+        return result;
+    }
+
+    /**
+     * reads the schema without the parts the generator does not need. the content is released afterwards, because
+     * only the pruned schema is used from now on.
+     *
+     * @param referencedPointers json pointers of the subtrees which are referenced by this or other documents
+     * @return pruned schema
+     * @throws IOException if the schema can not be read
+     */
+    public JsonObject loadSchema(final Set<String> referencedPointers) throws IOException {
+        LOG.entering(JsonSchemaProvider.class.getName(), "loadSchema", referencedPointers);
         final JsonObject schema;
-        try (JsonReader reader = Json.createReader(schemaAsStream())) {
-            schema = reader.readObject();
+        try (JsonParser parser = Json.createParser(new ByteArrayInputStream(schemaContent()))) {
+            schema = new PrunedSchemaReader(parser, referencedPointers).readSchema();
         }
+        releaseContent();
         LOG.exiting(JsonSchemaProvider.class.getName(), "loadSchema", schema);
         return schema;
     }
 
+    /**
+     * location of the schema, references in the schema are relative to it.
+     *
+     * @return uri of the schema
+     * @throws IOException if the location is not a valid uri
+     */
+    public URI location() throws IOException {
+        try {
+            final URI result;
+            if (schemaUrl == null) {
+                result = bundledSchema().toURI();
+            } else {
+                result = schemaUrl.toURI();
+            }
+            return result;
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * provider for a document referenced by this schema, which is loaded the same way (e.g. through the cache).
+     *
+     * @param document location of the referenced document
+     * @return provider of the referenced document
+     * @throws IOException if the location is not a valid url
+     */
+    public JsonSchemaProvider referencedDocument(final URI document) throws IOException {
+        return new JsonSchemaProvider(document.toURL(), cache);
+    }
+
+    /**
+     * hash of the raw content of the schema. the content is only kept if it was already read for the loading of the
+     * schema, so that a fingerprint for an up to date check does not keep it in memory.
+     *
+     * @return hash of the content
+     * @throws IOException if the schema can not be read
+     */
+    public synchronized String fingerprint() throws IOException {
+        if (fingerprint == null) {
+            if (content == null) {
+                try (InputStream in = schemaAsStream()) {
+                    fingerprint = new ContentHash(in.readAllBytes()).toHex();
+                }
+            } else {
+                fingerprint = new ContentHash(content).toHex();
+            }
+        }
+        return fingerprint;
+    }
+
+    private synchronized byte[] schemaContent() throws IOException {
+        if (content == null) {
+            try (InputStream in = schemaAsStream()) {
+                content = in.readAllBytes();
+            }
+        }
+        return content;
+    }
+
+    private synchronized void releaseContent() {
+        content = null;
+    }
+
     private InputStream schemaAsStream() throws IOException {
         LOG.entering(JsonSchemaProvider.class.getName(), "schemaAsStream");
         final InputStream result;
         if (schemaUrl == null) {
             LOG.log(Level.FINE, "use bundled schema.");
-            result = GenerateMojo.class.getClassLoader().getResource("open-rpc-meta-schema.json").openStream();
-        } else {
+            result = bundledSchema().openStream();
+        } else if (cache == null) {
             LOG.log(Level.FINE, () -> String.format("use url %s to retrieve schema.", schemaUrl));
             result = schemaUrl.openStream();
+        } else {
+            LOG.log(Level.FINE, () -> String.format("use url %s to retrieve schema through cache.", schemaUrl));
+            result = cache.open(schemaUrl);
         }
         LOG.exiting(JsonSchemaProvider.class.getName(), "schemaAsStream");
         return result;
     }
+
+    private static URL bundledSchema() throws FileNotFoundException {
+        final URL result = GenerateMojo.class.getClassLoader().getResource("open-rpc-meta-schema.json");
+        if (result == null) {
+            throw new FileNotFoundException("bundled schema open-rpc-meta-schema.json not found!");
+        }
+        return result;
+    }
 }
@@ -28,27 +28,195 @@ import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.Jso
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.PrintableAdapters;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.SchemaParser;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.SchemaReferences;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.TypeRegistry;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 final class ModelCreator {
 
+    private static final Logger LOG = Logger.getLogger(ModelCreator.class.getName());
+
     private final JsonSchemaProvider provider;
-    private final JsonTypeToJavaTypeMapping typeRegistry;
+    private final JsonTypeToJavaTypeMapping typeMapping;
+    private final TypeRegistry typeRegistry;
+    private final Map<URI, JsonSchemaProvider> providers;
+    private JsonObject schema;
+    private SchemaReferences references;
+    private Map<URI, String> documentFingerprints;
+
+    public ModelCreator(final JsonSchemaProvider provider, final JsonTypeToJavaTypeMapping typeMapping) {
+        this(provider, typeMapping, new CompositeTypeRegistry(List.of(typeMapping, new PrintableAdapters())));
+    }
 
-    public ModelCreator(final JsonSchemaProvider provider, final JsonTypeToJavaTypeMapping typeRegistry) {
+    /**
+     * creates the model of the schema with registries, which could be shared with other model creators.
+     *
+     * @param provider schema to create the model for
+     * @param typeMapping mapping of json to java types
+     * @param typeRegistry registry to resolve the imports
+     */
+    public ModelCreator(
+        final JsonSchemaProvider provider,
+        final JsonTypeToJavaTypeMapping typeMapping,
+        final TypeRegistry typeRegistry
+    ) {
         this.provider = Objects.requireNonNull(provider);
+        this.typeMapping = Objects.requireNonNull(typeMapping);
         this.typeRegistry = Objects.requireNonNull(typeRegistry);
+        this.providers = new HashMap<>();
+    }
+
+    public synchronized Stream<JsonObjectClassDefinition> createModel() throws IOException {
+        loadSchemas();
+        return new SchemaParser(schema, references, typeRegistry, typeMapping).createModel();
+    }
+
+    /**
+     * fingerprint of the schema and all documents it references, changes if one of them changes.
+     *
+     * @return fingerprint of all documents
+     * @throws IOException if a document can not be loaded
+     */
+    public synchronized String schemaFingerprint() throws IOException {
+        loadSchemas();
+        return fingerprintOf(documentFingerprints);
+    }
+
+    /**
+     * fingerprint of the given documents (e.g. the documents of the last generation) from their raw content, without
+     * parsing them. equals {@link #schemaFingerprint()} as long as none of the documents has changed, because the
+     * documents can only reference other documents if one of them has changed.
+     *
+     * @param documents schema and referenced documents, like returned by {@link #documents()}
+     * @return fingerprint of the documents
+     * @throws IOException if the location of the schema is not a valid uri
+     */
+    public synchronized String schemaFingerprint(final List<URI> documents) throws IOException {
+        final Map<URI, String> fingerprints = new LinkedHashMap<>();
+        for (final URI document : documents) {
+            String fingerprint;
+            try {
+                fingerprint = providerOf(document).fingerprint();
+            } catch (IOException e) {
+                LOG.log(Level.FINE, e, () -> String.format("%s can not be read.", document));
+                fingerprint = "";
+            }
+            fingerprints.put(document, fingerprint);
+        }
+        return fingerprintOf(fingerprints);
+    }
+
+    /**
+     * the schema and all documents it references, which are part of the {@link #schemaFingerprint()}.
+     *
+     * @return locations of the documents, the schema first
+     * @throws IOException if a document can not be loaded
+     */
+    public synchronized List<URI> documents() throws IOException {
+        loadSchemas();
+        return List.copyOf(documentFingerprints.keySet());
+    }
+
+    private String fingerprintOf(final Map<URI, String> fingerprints) throws IOException {
+        return Stream
+            .concat(
+                Stream.of(SchemaReferences.documentOf(provider.location()).toString()),
+                fingerprints.entrySet().stream().map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue()))
+            )
+            .collect(Collectors.joining("+"));
+    }
+
+    private void loadSchemas() throws IOException {
+        if (references == null) {
+            final URI location = SchemaReferences.documentOf(provider.location());
+            final Map<URI, String> fingerprints = new LinkedHashMap<>();
+            final Map<URI, Set<String>> pointers = referencedPointers(location, fingerprints);
+            schema = provider.loadSchema(pointers.getOrDefault(location, Set.of()));
+            references =
+                SchemaReferences.of(
+                    location,
+                    schema,
+                    document -> providerOf(document).loadSchema(pointers.getOrDefault(document, Set.of()))
+                );
+            documentFingerprints = Collections.unmodifiableMap(fingerprints);
+        }
+    }
+
+    /**
+     * json pointers of the subtrees of every document which are referenced by the document itself or by another
+     * document, because a document can only be pruned if all references into it are known. a referenced document
+     * which can not be read is left to the schema references, which fail only if it is really needed. the fingerprints
+     * of all read documents are collected on the way.
+     */
+    private Map<URI, Set<String>> referencedPointers(final URI rootDocument, final Map<URI, String> fingerprints)
+        throws IOException {
+        final Map<URI, Set<String>> result = new HashMap<>();
+        final Deque<URI> toScan = new ArrayDeque<>(List.of(rootDocument));
+        final Set<URI> scanned = new HashSet<>();
+        while (!toScan.isEmpty()) {
+            final URI document = toScan.pop();
+            if (scanned.add(document)) {
+                for (final String ref : referencesOf(document, fingerprints)) {
+                    SchemaReferences
+                        .loadableTarget(document, ref)
+                        .ifPresent(target -> {
+                            final URI targetDocument = SchemaReferences.documentOf(target);
+                            result
+                                .computeIfAbsent(targetDocument, key -> new HashSet<>())
+                                .add(Objects.requireNonNullElse(target.getFragment(), ""));
+                            toScan.add(targetDocument);
+                        });
+                }
+            }
+        }
+        return result;
+    }
+
+    private Set<String> referencesOf(final URI document, final Map<URI, String> fingerprints) throws IOException {
+        Set<String> result;
+        if (document.equals(SchemaReferences.documentOf(provider.location()))) {
+            result = provider.references();
+            fingerprints.put(document, provider.fingerprint());
+        } else {
+            try {
+                final JsonSchemaProvider referenced = providerOf(document);
+                result = referenced.references();
+                fingerprints.put(document, referenced.fingerprint());
+            } catch (IOException | JsonException e) {
+                LOG.log(Level.FINE, e, () -> String.format("references of %s can not be read.", document));
+                result = Set.of();
+            }
+        }
+        return result;
     }
 
-    public Stream<JsonObjectClassDefinition> createModel() throws IOException {
-        return new SchemaParser(
-            provider.loadSchema(),
-            new CompositeTypeRegistry(List.of(typeRegistry, new PrintableAdapters())),
-            typeRegistry
-        )
-            .createModel();
+    private JsonSchemaProvider providerOf(final URI document) throws IOException {
+        JsonSchemaProvider result = providers.get(document);
+        if (result == null) {
+            if (document.equals(SchemaReferences.documentOf(provider.location()))) {
+                result = provider;
+            } else {
+                result = provider.referencedDocument(document);
+            }
+            providers.put(document, result);
+        }
+        return result;
     }
 }
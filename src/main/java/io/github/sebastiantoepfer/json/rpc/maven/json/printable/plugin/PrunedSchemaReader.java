@@ -0,0 +1,213 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * reads a schema from a json stream and keeps only the keywords the generator needs, everything else (descriptions,
+ * examples, defaults, ...) is skipped without being materialized.
+ *
+ * <p>subtrees outside of these keywords (e.g. #/components/schemas/address) are kept if a $ref of this or another
+ * document points to them, see {@link #references(JsonParser)}.</p>
+ */
+final class PrunedSchemaReader {
+
+    private static final Set<String> SCHEMA_MAP_KEYWORDS = Set.of(
+        "properties",
+        "definitions",
+        "$defs",
+        "patternProperties"
+    );
+    private static final Set<String> SCHEMA_KEYWORDS = Set.of("items");
+    private static final Set<String> SCHEMA_ARRAY_KEYWORDS = Set.of("oneOf");
+    private static final Set<String> VALUE_KEYWORDS = Set.of(
+        "$id",
+        "$ref",
+        "$schema",
+        "title",
+        "type",
+        "format",
+        "enum",
+        "required"
+    );
+
+    private final JsonParser parser;
+    private final Set<String> referencedPointers;
+    private final Set<String> pathsToReferences;
+
+    /**
+     * @param parser parser positioned before the schema
+     * @param referencedPointers json pointers of the subtrees which must be kept, because they are referenced
+     */
+    PrunedSchemaReader(final JsonParser parser, final Set<String> referencedPointers) {
+        this.parser = Objects.requireNonNull(parser);
+        this.referencedPointers = Set.copyOf(referencedPointers);
+        this.pathsToReferences = pathsTo(referencedPointers);
+    }
+
+    /**
+     * every parent path of the pointers (/a and /a/b for /a/b/c), so a skipped member is checked with one lookup.
+     */
+    private static Set<String> pathsTo(final Set<String> pointers) {
+        final Set<String> result = new HashSet<>();
+        for (final String pointer : pointers) {
+            int end = pointer.lastIndexOf('/');
+            while (end > 0 && result.add(pointer.substring(0, end))) {
+                end = pointer.lastIndexOf('/', end - 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * collects all references (e.g. #/components/schemas/address or common.json#/definitions/address) of the
+     * document. the stream must be read twice, because a reference can point to a subtree which was already read, or
+     * into another document which must know the referenced subtrees before it is read.
+     *
+     * @param parser parser positioned before the schema
+     * @return all references of the document
+     */
+    static Set<String> references(final JsonParser parser) {
+        final Set<String> result = new HashSet<>();
+        while (parser.hasNext()) {
+            if (
+                parser.next() == JsonParser.Event.KEY_NAME &&
+                "$ref".equals(parser.getString()) &&
+                parser.next() == JsonParser.Event.VALUE_STRING
+            ) {
+                result.add(parser.getString());
+            }
+        }
+        return result;
+    }
+
+    JsonObject readSchema() {
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+            throw new JsonParsingException("schema must be a json object!", parser.getLocation());
+        }
+        return readSchemaObject("");
+    }
+
+    private JsonObject readSchemaObject(final String path) {
+        final JsonObjectBuilder result = Json.createObjectBuilder();
+        while (parser.next() == JsonParser.Event.KEY_NAME) {
+            final String keyword = parser.getString();
+            final String subPath = path + "/" + escape(keyword);
+            final JsonParser.Event event = parser.next();
+            if (SCHEMA_MAP_KEYWORDS.contains(keyword) && event == JsonParser.Event.START_OBJECT) {
+                result.add(keyword, readSchemaMap(subPath));
+            } else if (SCHEMA_ARRAY_KEYWORDS.contains(keyword) && event == JsonParser.Event.START_ARRAY) {
+                result.add(keyword, readSchemaArray(subPath));
+            } else if (SCHEMA_KEYWORDS.contains(keyword) || referencedPointers.contains(subPath)) {
+                result.add(keyword, readSchemaValue(event, subPath));
+            } else if (VALUE_KEYWORDS.contains(keyword)) {
+                result.add(keyword, parser.getValue());
+            } else if (leadsToReference(subPath) && event == JsonParser.Event.START_OBJECT) {
+                result.add(keyword, readPathToReferences(subPath));
+            } else {
+                skip(event);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * reads only the members which are referenced or contain referenced subtrees.
+     */
+    private JsonObject readPathToReferences(final String path) {
+        final JsonObjectBuilder result = Json.createObjectBuilder();
+        while (parser.next() == JsonParser.Event.KEY_NAME) {
+            final String name = parser.getString();
+            final String subPath = path + "/" + escape(name);
+            final JsonParser.Event event = parser.next();
+            if (referencedPointers.contains(subPath)) {
+                result.add(name, readSchemaValue(event, subPath));
+            } else if (leadsToReference(subPath) && event == JsonParser.Event.START_OBJECT) {
+                result.add(name, readPathToReferences(subPath));
+            } else {
+                skip(event);
+            }
+        }
+        return result.build();
+    }
+
+    private boolean leadsToReference(final String path) {
+        return pathsToReferences.contains(path);
+    }
+
+    private JsonObject readSchemaMap(final String path) {
+        final JsonObjectBuilder result = Json.createObjectBuilder();
+        while (parser.next() == JsonParser.Event.KEY_NAME) {
+            final String name = parser.getString();
+            result.add(name, readSchemaValue(parser.next(), path + "/" + escape(name)));
+        }
+        return result.build();
+    }
+
+    private JsonArray readSchemaArray(final String path) {
+        final JsonArrayBuilder result = Json.createArrayBuilder();
+        JsonParser.Event event = parser.next();
+        int index = 0;
+        while (event != JsonParser.Event.END_ARRAY) {
+            result.add(readSchemaValue(event, path + "/" + index++));
+            event = parser.next();
+        }
+        return result.build();
+    }
+
+    private JsonValue readSchemaValue(final JsonParser.Event event, final String path) {
+        final JsonValue result;
+        if (event == JsonParser.Event.START_OBJECT) {
+            result = readSchemaObject(path);
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            result = readSchemaArray(path);
+        } else {
+            result = parser.getValue();
+        }
+        return result;
+    }
+
+    private static String escape(final String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private void skip(final JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+}
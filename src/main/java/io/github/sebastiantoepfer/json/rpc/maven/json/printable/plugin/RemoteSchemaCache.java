@@ -0,0 +1,253 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * keeps a local copy of schemas loaded via http(s) and revalidates it with ETag/Last-Modified once the copy is older
+ * than the time to live. the metadata is written after the content and records its hash, a copy whose metadata is
+ * missing, corrupt or belongs to other content is downloaded again.
+ */
+final class RemoteSchemaCache {
+
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Logger LOG = Logger.getLogger(RemoteSchemaCache.class.getName());
+    private static final List<String> CACHEABLE_PROTOCOLS = List.of("http", "https");
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String FETCHED = "fetched";
+    private static final String CONTENT_HASH = "contentHash";
+
+    private final Path cacheDirectory;
+    private final Duration timeToLive;
+    private final Duration timeout;
+    private final boolean offline;
+    private final Clock clock;
+
+    RemoteSchemaCache(final Path cacheDirectory, final Duration timeToLive, final boolean offline) {
+        this(cacheDirectory, timeToLive, DEFAULT_TIMEOUT, offline);
+    }
+
+    RemoteSchemaCache(
+        final Path cacheDirectory,
+        final Duration timeToLive,
+        final Duration timeout,
+        final boolean offline
+    ) {
+        this(cacheDirectory, timeToLive, timeout, offline, Clock.systemUTC());
+    }
+
+    RemoteSchemaCache(
+        final Path cacheDirectory,
+        final Duration timeToLive,
+        final Duration timeout,
+        final boolean offline,
+        final Clock clock
+    ) {
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.offline = offline;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    InputStream open(final URL schemaUrl) throws IOException {
+        LOG.entering(RemoteSchemaCache.class.getName(), "open", schemaUrl);
+        final InputStream result;
+        if (CACHEABLE_PROTOCOLS.contains(schemaUrl.getProtocol())) {
+            result = new ByteArrayInputStream(new CacheEntry(schemaUrl).content());
+        } else {
+            result = schemaUrl.openStream();
+        }
+        LOG.exiting(RemoteSchemaCache.class.getName(), "open");
+        return result;
+    }
+
+    private final class CacheEntry {
+
+        private final URL schemaUrl;
+        private final Path contentFile;
+        private final Path metadataFile;
+
+        CacheEntry(final URL schemaUrl) {
+            this.schemaUrl = schemaUrl;
+            final String key = new ContentHash(schemaUrl.toExternalForm()).toHex();
+            this.contentFile = cacheDirectory.resolve(String.format("%s.json", key));
+            this.metadataFile = cacheDirectory.resolve(String.format("%s.properties", key));
+        }
+
+        byte[] content() throws IOException {
+            final byte[] result;
+            if (!Files.isRegularFile(contentFile) || !Files.isRegularFile(metadataFile)) {
+                if (offline) {
+                    throw new IOException(String.format("schema %s is not cached and maven is offline!", schemaUrl));
+                }
+                result = download(new Properties(), null);
+            } else {
+                final byte[] cached = Files.readAllBytes(contentFile);
+                final Optional<Properties> metadata = metadata(cached);
+                if (offline || metadata.filter(this::isFresh).isPresent()) {
+                    LOG.log(Level.FINE, () -> String.format("use cached schema for %s.", schemaUrl));
+                    result = cached;
+                } else {
+                    result = revalidate(metadata.orElseGet(Properties::new), cached);
+                }
+            }
+            return result;
+        }
+
+        private boolean isFresh(final Properties metadata) {
+            return fetched(metadata).map(fetched -> fetched.plus(timeToLive).isAfter(clock.instant())).orElse(false);
+        }
+
+        private Optional<Instant> fetched(final Properties metadata) {
+            Optional<Instant> result;
+            try {
+                result = Optional.of(Instant.ofEpochMilli(Long.parseLong(metadata.getProperty(FETCHED, ""))));
+            } catch (NumberFormatException e) {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        private byte[] revalidate(final Properties metadata, final byte[] cached) {
+            byte[] result;
+            try {
+                result = download(metadata, cached);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, String.format("can not revalidate %s, use cached schema.", schemaUrl), e);
+                result = cached;
+            }
+            return result;
+        }
+
+        private byte[] download(final Properties metadata, final byte[] cached) throws IOException {
+            LOG.log(Level.FINE, () -> String.format("download schema from %s.", schemaUrl));
+            final HttpURLConnection connection = (HttpURLConnection) schemaUrl.openConnection();
+            try {
+                connection.setConnectTimeout(Math.toIntExact(timeout.toMillis()));
+                connection.setReadTimeout(Math.toIntExact(timeout.toMillis()));
+                if (metadata.containsKey(ETAG)) {
+                    connection.setRequestProperty("If-None-Match", metadata.getProperty(ETAG));
+                }
+                if (metadata.containsKey(LAST_MODIFIED)) {
+                    connection.setRequestProperty("If-Modified-Since", metadata.getProperty(LAST_MODIFIED));
+                }
+                final int responseCode = connection.getResponseCode();
+                final byte[] result;
+                if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                    LOG.log(Level.FINE, () -> String.format("cached schema for %s is still valid.", schemaUrl));
+                    result = cached;
+                } else if (responseCode == HttpURLConnection.HTTP_OK) {
+                    try (InputStream in = connection.getInputStream()) {
+                        result = in.readAllBytes();
+                    }
+                    writeAtomic(contentFile, result);
+                    metadata.clear();
+                    storeHeader(metadata, ETAG, connection.getHeaderField("ETag"));
+                    storeHeader(metadata, LAST_MODIFIED, connection.getHeaderField("Last-Modified"));
+                    metadata.setProperty(CONTENT_HASH, new ContentHash(result).toHex());
+                } else {
+                    throw new IOException(
+                        String.format("can not load schema from %s, server answered with %d!", schemaUrl, responseCode)
+                    );
+                }
+                metadata.setProperty(FETCHED, String.valueOf(clock.millis()));
+                storeMetadata(metadata);
+                return result;
+            } finally {
+                connection.disconnect();
+            }
+        }
+
+        private void storeHeader(final Properties metadata, final String key, final String value) {
+            if (value != null) {
+                metadata.setProperty(key, value);
+            }
+        }
+
+        /**
+         * the metadata of the cached content, empty if it is corrupt or was written for other content (e.g. the
+         * build was interrupted between writing the content and the metadata).
+         */
+        private Optional<Properties> metadata(final byte[] cached) {
+            Optional<Properties> result;
+            try (InputStream in = Files.newInputStream(metadataFile)) {
+                final Properties metadata = new Properties();
+                metadata.load(in);
+                result =
+                    Optional
+                        .of(metadata)
+                        .filter(m -> fetched(m).isPresent())
+                        .filter(m -> new ContentHash(cached).toHex().equals(m.getProperty(CONTENT_HASH)));
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.log(Level.FINE, String.format("metadata of cached schema for %s is corrupt.", schemaUrl), e);
+                result = Optional.empty();
+            }
+            if (result.isEmpty()) {
+                LOG.log(Level.FINE, () -> String.format("cached schema for %s is stale.", schemaUrl));
+            }
+            return result;
+        }
+
+        private void storeMetadata(final Properties metadata) throws IOException {
+            final Path tempFile = Files.createTempFile(createCacheDirectory(), "schema", ".properties");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                metadata.store(out, schemaUrl.toExternalForm());
+            }
+            Files.move(tempFile, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private void writeAtomic(final Path target, final byte[] content) throws IOException {
+            //other modules of a parallel build could use the same cache
+            final Path tempFile = Files.createTempFile(createCacheDirectory(), "schema", ".json");
+            Files.write(tempFile, content);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private Path createCacheDirectory() throws IOException {
+            return Files.createDirectories(cacheDirectory);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * one schema and the package its classes are generated into.
+ *
+ * <pre>{@code
+ * <schemaSets>
+ *   <schemaSet>
+ *     <schemaUrl>https://meta.open-rpc.org/</schemaUrl>
+ *     <packageName>org.example.openrpc</packageName>
+ *   </schemaSet>
+ *   <schemaSet>
+ *     <schemaFile>src/main/schema/extension.json</schemaFile>
+ *     <packageName>org.example.extension</packageName>
+ *   </schemaSet>
+ * </schemaSets>
+ * }</pre>
+ *
+ * <p>without schemaUrl and schemaFile the bundled open-rpc meta schema is used.</p>
+ */
+public class SchemaSet {
+
+    private URL schemaUrl;
+    private File schemaFile;
+    private String packageName;
+
+    public SchemaSet() {
+        this(null, null, null);
+    }
+
+    SchemaSet(final URL schemaUrl, final File schemaFile, final String packageName) {
+        this.schemaUrl = schemaUrl;
+        this.schemaFile = schemaFile;
+        this.packageName = packageName;
+    }
+
+    URL schemaUrl() throws MalformedURLException {
+        final URL result;
+        if (schemaFile == null) {
+            result = schemaUrl;
+        } else {
+            result = schemaFile.toURI().toURL();
+        }
+        return result;
+    }
+
+    String packageName() {
+        return packageName;
+    }
+
+    boolean isValid() {
+        return packageName != null && !packageName.isBlank() && (schemaUrl == null || schemaFile == null);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "SchemaSet{" +
+            "schemaUrl=" +
+            schemaUrl +
+            ", schemaFile=" +
+            schemaFile +
+            ", packageName=" +
+            packageName +
+            '}'
+        );
+    }
+}
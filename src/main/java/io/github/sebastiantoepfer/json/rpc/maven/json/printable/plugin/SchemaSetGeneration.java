@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static java.util.stream.Collectors.toMap;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.ContentHashOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.IncrementalJavaClassOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.SourceArchiveOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * generates the classes of one schema set into its package and keeps the manifest of it up to date.
+ */
+final class SchemaSetGeneration implements Callable<String> {
+
+    private static final Logger LOG = Logger.getLogger(SchemaSetGeneration.class.getName());
+    private final ModelCreator modelCreator;
+    private final String packageName;
+    private final Path srcDirectory;
+    private final Path manifestFile;
+    private final boolean incremental;
+    private final String pluginVersion;
+    private final int renderThreads;
+    private final Set<TemplateOption> templateOptions;
+    private final SourceArchiveOutput sourceArchive;
+    private final boolean profiling;
+    private final GenerationProfile profile;
+    private String fingerprint;
+
+    SchemaSetGeneration(
+        final ModelCreator modelCreator,
+        final String packageName,
+        final Path srcDirectory,
+        final Path manifestFile,
+        final boolean incremental,
+        final String pluginVersion,
+        final int renderThreads,
+        final Set<TemplateOption> templateOptions
+    ) {
+        this(
+            modelCreator,
+            packageName,
+            srcDirectory,
+            manifestFile,
+            incremental,
+            pluginVersion,
+            renderThreads,
+            templateOptions,
+            null,
+            false
+        );
+    }
+
+    /**
+     * @param sourceArchive if not null the classes are generated into it instead of the srcDirectory, the manifest
+     *     only records the fingerprint and the documents of the schema in this case (see
+     *     {@link #unchangedFingerprint()}).
+     * @param profiling true if the profile is reported, only then the output is measured.
+     */
+    SchemaSetGeneration(
+        final ModelCreator modelCreator,
+        final String packageName,
+        final Path srcDirectory,
+        final Path manifestFile,
+        final boolean incremental,
+        final String pluginVersion,
+        final int renderThreads,
+        final Set<TemplateOption> templateOptions,
+        final SourceArchiveOutput sourceArchive,
+        final boolean profiling
+    ) {
+        this.modelCreator = Objects.requireNonNull(modelCreator);
+        this.packageName = Objects.requireNonNull(packageName);
+        this.srcDirectory = Objects.requireNonNull(srcDirectory);
+        this.manifestFile = Objects.requireNonNull(manifestFile);
+        this.incremental = incremental;
+        this.pluginVersion = pluginVersion;
+        this.renderThreads = renderThreads;
+        this.templateOptions = Set.copyOf(templateOptions);
+        this.sourceArchive = sourceArchive;
+        this.profiling = profiling;
+        this.profile = new GenerationProfile(packageName, profiling);
+    }
+
+    /**
+     * timings and sizes of the generation, complete after the generation has been called.
+     */
+    GenerationProfile profile() {
+        return profile;
+    }
+
+    /**
+     * fingerprint of the last generation, if neither the schema, the templates nor the plugin have changed since.
+     * only the raw documents of the schema are read for it. for generations into the source archive, which are
+     * skipped only as a whole (e.g. together with the compilation of the generated classes).
+     *
+     * @return fingerprint of the last generation, empty if the classes must be generated again
+     * @throws IOException if the manifest or the templates can not be read
+     */
+    Optional<String> unchangedFingerprint() throws IOException {
+        final GenerationManifest lastGeneration = lastGeneration();
+        return Optional
+            .of(lastFingerprint(lastGeneration, generatorFor(sourceArchive).templatesFingerprint()))
+            .filter(lastGeneration::hasFingerprint);
+    }
+
+    /**
+     * fingerprint of the schema, the templates and the plugin the classes are generated from, known after the
+     * generation has been called.
+     */
+    String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * generates the classes if something has changed since the last generation.
+     *
+     * @return summary of the generation to be logged
+     * @throws IOException if the schema can not be loaded or the classes not be written
+     */
+    @Override
+    public String call() throws IOException {
+        LOG.entering(SchemaSetGeneration.class.getName(), "call", packageName);
+        final String result;
+        if (sourceArchive == null) {
+            result = generateIntoSourceDirectory();
+        } else {
+            result = generateIntoSourceArchive();
+        }
+        LOG.exiting(SchemaSetGeneration.class.getName(), "call", result);
+        return result;
+    }
+
+    private String generateIntoSourceArchive() throws IOException {
+        final ContentHashOutput output = new ContentHashOutput(profile.measuring(sourceArchive));
+        final CodeGenerator generator = generatorFor(output);
+        generator.generateModel();
+        fingerprint = fingerprint(modelCreator.schemaFingerprint(), generator.templatesFingerprint());
+        if (incremental) {
+            new GenerationManifest(fingerprint, modelCreator.documents(), output.hashes()).store(manifestFile);
+        }
+        if (profiling) {
+            final Map<String, String> sources = sourceArchive.sources();
+            profile.classesWritten(
+                output
+                    .hashes()
+                    .keySet()
+                    .stream()
+                    .collect(
+                        toMap(Function.identity(), name -> sources.get(name).getBytes(StandardCharsets.UTF_8).length)
+                    )
+            );
+        }
+        return String.format("%s: %d classes generated in memory.", packageName, output.hashes().size());
+    }
+
+    private String generateIntoSourceDirectory() throws IOException {
+        final GenerationManifest lastGeneration = lastGeneration();
+        final IncrementalJavaClassOutput javaClassOutput = new IncrementalJavaClassOutput(srcDirectory);
+        final ContentHashOutput output = new ContentHashOutput(profile.measuring(javaClassOutput));
+        final CodeGenerator generator = generatorFor(output);
+        final String templatesFingerprint = generator.templatesFingerprint();
+        final String lastFingerprint = lastFingerprint(lastGeneration, templatesFingerprint);
+        final String result;
+        if (lastGeneration.isUpToDate(lastFingerprint, srcDirectory)) {
+            result = String.format("%s: generated sources are up to date.", packageName);
+            profile.upToDate();
+        } else {
+            generator.generateModel();
+            result =
+                String.format(
+                    "%s: %d classes generated, %d of them written, %d unchanged.",
+                    packageName,
+                    output.hashes().size(),
+                    javaClassOutput.written(),
+                    javaClassOutput.unchanged()
+                );
+            profile.classesWritten(javaClassOutput.writtenClasses());
+            fingerprint = fingerprint(modelCreator.schemaFingerprint(), templatesFingerprint);
+            final GenerationManifest currentGeneration = new GenerationManifest(
+                fingerprint,
+                modelCreator.documents(),
+                output.hashes()
+            );
+            profile.measure(
+                GenerationProfile.MANIFEST,
+                () -> {
+                    lastGeneration.deleteClassesNotIn(currentGeneration, srcDirectory);
+                    if (incremental) {
+                        currentGeneration.store(manifestFile);
+                    }
+                    return null;
+                }
+            );
+        }
+        return result;
+    }
+
+    private GenerationManifest lastGeneration() throws IOException {
+        final GenerationManifest result;
+        if (incremental) {
+            result = GenerationManifest.load(manifestFile);
+        } else {
+            result = new GenerationManifest("", Map.of());
+        }
+        return result;
+    }
+
+    private String lastFingerprint(final GenerationManifest lastGeneration, final String templatesFingerprint)
+        throws IOException {
+        final String result;
+        if (lastGeneration.documents().isEmpty()) {
+            result = "";
+        } else {
+            //only the raw documents of the last generation are read, the schema is parsed if something has changed
+            result =
+                fingerprint(
+                    profile.measure(
+                        GenerationProfile.READ_SCHEMA,
+                        () -> modelCreator.schemaFingerprint(lastGeneration.documents())
+                    ),
+                    templatesFingerprint
+                );
+        }
+        return result;
+    }
+
+    private CodeGenerator generatorFor(final TemplateOutput output) {
+        return new CodeGenerator(
+            modelCreator,
+            packageName,
+            new Templates(output, templateOptions),
+            renderThreads,
+            profile
+        );
+    }
+
+    private String fingerprint(final String schemaFingerprint, final String templatesFingerprint) {
+        return new ContentHash(
+            String.join("\n", String.valueOf(pluginVersion), packageName, schemaFingerprint, templatesFingerprint)
+        )
+            .toHex();
+    }
+}
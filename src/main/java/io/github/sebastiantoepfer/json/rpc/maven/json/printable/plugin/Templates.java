@@ -24,38 +24,130 @@
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
 
 import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.JavaClassTemplate;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.MustacheJavaClassTemplate;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOutput;
-import java.io.InputStreamReader;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 final class Templates {
 
+    static final String OBJECT_CLASS_TEMPLATE = "default_json_object_class.mustache";
+    static final String PARAMETER_CLASS_TEMPLATE = "parameter_class.mustache";
+    static final String JSON_WRITABLE_TEMPLATE = "json_writable.mustache";
+
     private static final Logger LOG = Logger.getLogger(Templates.class.getName());
+    private static final List<String> BUNDLED_TEMPLATES = List.of(
+        OBJECT_CLASS_TEMPLATE,
+        PARAMETER_CLASS_TEMPLATE,
+        JSON_WRITABLE_TEMPLATE
+    );
+    //compiled templates are immutable and thread safe, so they can be shared by all executions of this jvm. a
+    //changed plugin is loaded by a new classloader with its own cache, so each resource url is only read once.
+    private static final Map<String, CompiledTemplate> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
     private final TemplateOutput output;
+    private final Set<TemplateOption> options;
 
     public Templates(final TemplateOutput output) {
+        this(output, Set.of());
+    }
+
+    public Templates(final TemplateOutput output, final Set<TemplateOption> options) {
         this.output = Objects.requireNonNull(output);
+        this.options = Set.copyOf(options);
+    }
+
+    static void precompileBundledTemplates() throws IOException {
+        LOG.entering(Templates.class.getName(), "precompileBundledTemplates");
+        for (final String templateResource : BUNDLED_TEMPLATES) {
+            compiledTemplate(templateResource);
+        }
+        LOG.exiting(Templates.class.getName(), "precompileBundledTemplates");
     }
 
     public JavaClassTemplate createTemplate(final String templateResource) {
         LOG.entering(Templates.class.getName(), "createTemplate", templateResource);
-        final MustacheJavaClassTemplate result = new MustacheJavaClassTemplate(
-            Mustache
-                .compiler()
-                .compile(
-                    new InputStreamReader(
-                        GenerateMojo.class.getClassLoader()
-                            .getResourceAsStream(String.format("templates/%s", templateResource)),
-                        StandardCharsets.UTF_8
-                    )
-                ),
-            output
-        );
+        final MustacheJavaClassTemplate result;
+        try {
+            result = new MustacheJavaClassTemplate(compiledTemplate(templateResource), output, options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         LOG.exiting(Templates.class.getName(), "createTemplate", result);
         return result;
     }
+
+    public boolean isEnabled(final TemplateOption option) {
+        return options.contains(option);
+    }
+
+    /**
+     * fingerprint of the template and the options it is used with, changes if the output of the template changes.
+     *
+     * @param templateResource name of the template
+     * @return fingerprint of the template
+     * @throws IOException if the template can not be read
+     */
+    public String fingerprintOf(final String templateResource) throws IOException {
+        return Stream
+            .concat(
+                Stream.of(compiledTemplate(templateResource, GenerateMojo.class.getClassLoader()).contentHash()),
+                options.stream().map(TemplateOption::name).sorted()
+            )
+            .collect(Collectors.joining("+"));
+    }
+
+    static Template compiledTemplate(final String templateResource) throws IOException {
+        return compiledTemplate(templateResource, GenerateMojo.class.getClassLoader()).template();
+    }
+
+    static CompiledTemplate compiledTemplate(final String templateResource, final ClassLoader classLoader)
+        throws IOException {
+        final String resourceName = String.format("templates/%s", templateResource);
+        final URL resource = classLoader.getResource(resourceName);
+        if (resource == null) {
+            throw new FileNotFoundException(String.format("template %s not found!", resourceName));
+        }
+        try {
+            return COMPILED_TEMPLATES.computeIfAbsent(
+                resource.toExternalForm(),
+                key -> {
+                    LOG.log(Level.FINE, () -> String.format("compile template %s.", key));
+                    try (InputStream in = resource.openStream()) {
+                        final byte[] content = in.readAllBytes();
+                        return new CompiledTemplate(
+                            new ContentHash(content).toHex(),
+                            Mustache.compiler().compile(new String(content, StandardCharsets.UTF_8))
+                        );
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * compiled template with the hash of the content it was compiled from.
+     */
+    record CompiledTemplate(String contentHash, Template template) {}
 }
@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * records the content hash of every generated class for the manifest and passes all classes to the delegate. the
+ * delegate must decide if a class has changed, because only it knows the file on disk, which may have been edited.
+ */
+public final class ContentHashOutput implements TemplateOutput {
+
+    private final TemplateOutput delegate;
+    private final Map<String, String> hashes;
+
+    public ContentHashOutput(final TemplateOutput delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.hashes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Writer createWriterFor(final String packageName, final String className) throws IOException {
+        return new HashingWriter(packageName, className);
+    }
+
+    /**
+     * content hash by full qualified class name of every class generated through this output.
+     */
+    public Map<String, String> hashes() {
+        return Map.copyOf(hashes);
+    }
+
+    private final class HashingWriter extends StringWriter {
+
+        private final String packageName;
+        private final String className;
+        private boolean closed;
+
+        HashingWriter(final String packageName, final String className) {
+            this.packageName = packageName;
+            this.className = className;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                final String content = toString();
+                final String fullQualifiedName = String.format("%s.%s", packageName, className);
+                hashes.put(fullQualifiedName, new ContentHash(content).toHex());
+                try (Writer writer = delegate.createWriterFor(packageName, className)) {
+                    writer.write(content);
+                }
+            }
+        }
+    }
+}
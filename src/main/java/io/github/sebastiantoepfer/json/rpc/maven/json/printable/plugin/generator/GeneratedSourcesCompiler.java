@@ -0,0 +1,243 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.ForwardingJavaFileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * compiles generated classes straight from memory with the compiler of the running jdk, only the class files are
+ * written. a class file is only rewritten if its content has changed, so that unchanged classes keep their
+ * timestamps.
+ */
+public final class GeneratedSourcesCompiler {
+
+    private static final Logger LOG = Logger.getLogger(GeneratedSourcesCompiler.class.getName());
+
+    private final List<Path> classpath;
+    private final String release;
+
+    /**
+     * @param classpath classpath needed by the generated classes
+     * @param release java release to compile for, the release of the jdk if null or blank
+     */
+    public GeneratedSourcesCompiler(final List<Path> classpath, final String release) {
+        this.classpath = List.copyOf(classpath);
+        this.release = release;
+    }
+
+    /**
+     * compiles the classes into the classes directory.
+     *
+     * @param sources content by full qualified class name
+     * @param classesDirectory directory of the class files
+     * @return error messages by full qualified class name, empty if all classes are compiled
+     * @throws IOException if no compiler is available or the class files can not be written
+     */
+    public Map<String, List<String>> compile(final Map<String, String> sources, final Path classesDirectory)
+        throws IOException {
+        LOG.entering(GeneratedSourcesCompiler.class.getName(), "compile", classesDirectory);
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IOException("no java compiler available, the build must run with a jdk!");
+        }
+        Files.createDirectories(classesDirectory);
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final boolean compiled;
+        try (
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+                diagnostics,
+                Locale.ROOT,
+                StandardCharsets.UTF_8
+            )
+        ) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classesDirectory));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, classpath);
+            compiled =
+                compiler
+                    .getTask(
+                        null,
+                        new ChangedClassesFileManager(fileManager),
+                        diagnostics,
+                        options(),
+                        null,
+                        sources.entrySet().stream().map(e -> new SourceFile(e.getKey(), e.getValue())).toList()
+                    )
+                    .call();
+        }
+        diagnostics.getDiagnostics().forEach(diagnostic -> LOG.log(Level.FINE, diagnostic::toString));
+        final Map<String, List<String>> result = diagnostics
+            .getDiagnostics()
+            .stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .collect(
+                groupingBy(
+                    GeneratedSourcesCompiler::classNameOf,
+                    TreeMap::new,
+                    mapping(
+                        diagnostic ->
+                            String.format(
+                                "[%d,%d] %s",
+                                diagnostic.getLineNumber(),
+                                diagnostic.getColumnNumber(),
+                                diagnostic.getMessage(Locale.ROOT)
+                            ),
+                        toList()
+                    )
+                )
+            );
+        if (!compiled && result.isEmpty()) {
+            result.put("", List.of("compilation failed without an error message!"));
+        }
+        LOG.exiting(GeneratedSourcesCompiler.class.getName(), "compile", result.keySet());
+        return result;
+    }
+
+    private List<String> options() {
+        final List<String> result = new ArrayList<>(List.of("-proc:none", "-implicit:none", "-encoding", "UTF-8"));
+        if (release != null && !release.isBlank()) {
+            result.add("--release");
+            result.add(release);
+        }
+        return result;
+    }
+
+    private static String classNameOf(final Diagnostic<? extends JavaFileObject> diagnostic) {
+        final String result;
+        if (diagnostic.getSource() instanceof SourceFile source) {
+            result = source.className;
+        } else {
+            result = "";
+        }
+        return result;
+    }
+
+    private static final class ChangedClassesFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        ChangedClassesFileManager(final StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(
+            final Location location,
+            final String className,
+            final JavaFileObject.Kind kind,
+            final FileObject sibling
+        ) throws IOException {
+            final JavaFileObject file = super.getJavaFileForOutput(location, className, kind, sibling);
+            final JavaFileObject result;
+            if (location == StandardLocation.CLASS_OUTPUT && kind == JavaFileObject.Kind.CLASS) {
+                result = new ClassFile(file);
+            } else {
+                result = file;
+            }
+            return result;
+        }
+    }
+
+    private static final class ClassFile extends ForwardingJavaFileObject<JavaFileObject> {
+
+        ClassFile(final JavaFileObject classFile) {
+            super(classFile);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ClassFileContent(fileObject);
+        }
+    }
+
+    private static final class ClassFileContent extends ByteArrayOutputStream {
+
+        private final JavaFileObject classFile;
+        private boolean closed;
+
+        ClassFileContent(final JavaFileObject classFile) {
+            this.classFile = classFile;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                final byte[] content = toByteArray();
+                final Path existing = Path.of(classFile.toUri());
+                if (Files.isRegularFile(existing) && Arrays.equals(Files.readAllBytes(existing), content)) {
+                    LOG.log(Level.FINE, () -> String.format("%s is unchanged.", existing));
+                } else {
+                    try (OutputStream out = classFile.openOutputStream()) {
+                        out.write(content);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String className;
+        private final String content;
+
+        SourceFile(final String className, final String content) {
+            super(URI.create(String.format("string:///%s.java", className.replace('.', '/'))), Kind.SOURCE);
+            this.className = Objects.requireNonNull(className);
+            this.content = Objects.requireNonNull(content);
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
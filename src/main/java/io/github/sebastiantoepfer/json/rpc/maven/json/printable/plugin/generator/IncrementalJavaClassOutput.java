@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * writes java classes only if their content differs from the existing file, so unchanged classes keep their
+ * timestamp and are not recompiled.
+ */
+public final class IncrementalJavaClassOutput implements TemplateOutput {
+
+    private static final Logger LOG = Logger.getLogger(IncrementalJavaClassOutput.class.getName());
+
+    private final Path srcDirectory;
+    private final AtomicInteger written;
+    private final AtomicInteger unchanged;
+    private final Map<String, Integer> writtenClasses;
+    private final Map<Path, Object> fileLocks;
+
+    public IncrementalJavaClassOutput(final Path srcDirectory) {
+        this.srcDirectory = Objects.requireNonNull(srcDirectory);
+        this.written = new AtomicInteger();
+        this.unchanged = new AtomicInteger();
+        this.writtenClasses = new ConcurrentHashMap<>();
+        this.fileLocks = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Writer createWriterFor(final String packageName, final String className) throws IOException {
+        return new BufferedClassWriter(
+            String.format("%s.%s", packageName, className),
+            srcDirectory.resolve(packageName.replace('.', '/')),
+            String.format("%s.java", className)
+        );
+    }
+
+    public int written() {
+        return written.get();
+    }
+
+    public int unchanged() {
+        return unchanged.get();
+    }
+
+    /**
+     * size in bytes by full qualified class name of every class which has been written, unchanged classes are not
+     * part of it.
+     */
+    public Map<String, Integer> writtenClasses() {
+        return Map.copyOf(writtenClasses);
+    }
+
+    private final class BufferedClassWriter extends StringWriter {
+
+        private final String fullQualifiedName;
+        private final Path packageDirectory;
+        private final Path javaFile;
+        private boolean closed;
+
+        BufferedClassWriter(final String fullQualifiedName, final Path packageDirectory, final String fileName) {
+            this.fullQualifiedName = fullQualifiedName;
+            this.packageDirectory = packageDirectory;
+            this.javaFile = packageDirectory.resolve(fileName);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                final byte[] content = toString().getBytes(StandardCharsets.UTF_8);
+                //the same class can be rendered more than once (e.g. shared alternatives) maybe even concurrently
+                synchronized (fileLocks.computeIfAbsent(javaFile, f -> new Object())) {
+                    writeIfChanged(content);
+                }
+            }
+        }
+
+        private void writeIfChanged(final byte[] content) throws IOException {
+            if (hasContent(content)) {
+                LOG.log(Level.FINE, () -> String.format("%s is unchanged.", javaFile));
+                unchanged.incrementAndGet();
+            } else {
+                Files.createDirectories(packageDirectory);
+                Files.write(javaFile, content);
+                written.incrementAndGet();
+                writtenClasses.put(fullQualifiedName, content.length);
+            }
+        }
+
+        private boolean hasContent(final byte[] content) throws IOException {
+            return (
+                Files.isRegularFile(javaFile) &&
+                Files.size(javaFile) == content.length &&
+                Arrays.equals(Files.readAllBytes(javaFile), content)
+            );
+        }
+    }
+}
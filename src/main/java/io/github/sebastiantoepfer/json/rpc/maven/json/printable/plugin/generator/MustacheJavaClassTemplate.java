@@ -23,6 +23,7 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
 
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
 import com.samskivert.mustache.Mustache;
@@ -30,15 +31,18 @@ import com.samskivert.mustache.Template;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonObjectClassDefinition;
 import java.io.IOException;
 import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -46,60 +50,156 @@ public final class MustacheJavaClassTemplate implements JavaClassTemplate {
 
     private final Template template;
     private final TemplateOutput output;
+    private final Map<String, Object> options;
 
     public MustacheJavaClassTemplate(final Template template, final TemplateOutput output) {
+        this(template, output, Set.of());
+    }
+
+    public MustacheJavaClassTemplate(
+        final Template template,
+        final TemplateOutput output,
+        final Set<TemplateOption> options
+    ) {
         this.template = template;
         this.output = output;
+        this.options =
+            Arrays
+                .stream(TemplateOption.values())
+                .collect(toMap(TemplateOption::templateKey, option -> (Object) options.contains(option)));
     }
 
     @Override
     public void generate(final JsonObjectClassDefinition context) {
         try (final Writer writer = output.createWriterFor(context.packagename(), context.objectname())) {
-            template.execute(new ClassDefinitionWithLambdas(context), writer);
+            template.execute(new ClassDefinitionWithLambdas(context, options), writer);
             writer.flush();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * exposes the zero-arg methods of a definition, the lambdas and the options to the template. the accessors are
+     * resolved only once per definition type, the values are computed on first lookup by the template.
+     */
     static class ClassDefinitionWithLambdas extends AbstractMap<String, Object> {
 
+        private static final ClassValue<Map<String, MethodHandle>> ACCESSORS = new ClassValue<>() {
+            @Override
+            protected Map<String, MethodHandle> computeValue(final Class<?> type) {
+                final Map<String, MethodHandle> result = new HashMap<>();
+                for (final Method m : methodsOf(type)) {
+                    if (m.getDeclaringClass() != Object.class && m.getParameterCount() == 0) {
+                        try {
+                            result.putIfAbsent(m.getName(), MethodHandles.publicLookup().unreflect(m));
+                        } catch (IllegalAccessException e) {
+                            throw new IllegalStateException(
+                                String.format("can not access %s of %s!", m.getName(), type.getName()),
+                                e
+                            );
+                        }
+                    }
+                }
+                return Map.copyOf(result);
+            }
+        };
+
+        private static final Map<String, Object> LAMBDAS = Map.of(
+            "cap1stChar",
+            (Mustache.Lambda) (frag, out) -> {
+                final String key = frag.execute();
+                final char[] chars = key.toCharArray();
+                if (chars.length > 0) {
+                    chars[0] = Character.toUpperCase(chars[0]);
+                }
+                out.write(chars);
+            },
+            //true inside a nested loop over the properties, if the element is the one of the enclosing loop.
+            "enclosingProperty",
+            new Mustache.InvertibleLambda() {
+                @Override
+                public void execute(final Template.Fragment frag, final Writer out) throws IOException {
+                    if (isEnclosingProperty(frag)) {
+                        frag.execute(out);
+                    }
+                }
+
+                @Override
+                public void executeInverse(final Template.Fragment frag, final Writer out) throws IOException {
+                    if (!isEnclosingProperty(frag)) {
+                        frag.execute(out);
+                    }
+                }
+
+                private boolean isEnclosingProperty(final Template.Fragment frag) {
+                    return Objects.equals(frag.context(), frag.context(1));
+                }
+            }
+        );
+
         private final JsonObjectClassDefinition delegate;
-        private Set<Entry<String, Object>> entries;
+        private final Map<String, MethodHandle> accessors;
+        private final Map<String, Object> options;
+        private final Map<String, Object> values;
 
-        ClassDefinitionWithLambdas(final JsonObjectClassDefinition delegate) {
+        ClassDefinitionWithLambdas(final JsonObjectClassDefinition delegate, final Map<String, Object> options) {
             this.delegate = delegate;
+            this.accessors = ACCESSORS.get(delegate.getClass());
+            this.options = options;
+            this.values = new HashMap<>();
         }
 
         @Override
-        public Set<Entry<String, Object>> entrySet() {
-            if (entries == null) {
-                entries = Stream.concat(methods(), lamdas()).collect(toSet());
+        public boolean containsKey(final Object key) {
+            return accessors.containsKey(key) || LAMBDAS.containsKey(key) || options.containsKey(key);
+        }
+
+        @Override
+        public Object get(final Object key) {
+            final Object result;
+            if (LAMBDAS.containsKey(key)) {
+                result = LAMBDAS.get(key);
+            } else if (options.containsKey(key)) {
+                result = options.get(key);
+            } else if (accessors.containsKey(key)) {
+                result = values.computeIfAbsent(String.valueOf(key), this::invoke);
+            } else {
+                result = null;
             }
-            return entries;
+            return result;
         }
 
-        private Stream<Entry<String, Object>> methods() {
-            final Set<Entry<String, Object>> result = new HashSet<>();
-            final Collection<Method> methods = methodsOf(delegate.getClass());
-            for (Method m : methods) {
-                if (m.getDeclaringClass() != Object.class && m.getParameters().length == 0) {
-                    try {
-                        final Object invocationResult = m.invoke(delegate);
-                        if (invocationResult == null) {
-                            result.add(Map.entry(m.getName(), ""));
-                        } else {
-                            result.add(Map.entry(m.getName(), invocationResult));
-                        }
-                    } catch (ReflectiveOperationException e) {
-                        //ignore ...
-                    }
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Stream
+                .of(accessors.keySet(), LAMBDAS.keySet(), options.keySet())
+                .flatMap(Collection::stream)
+                .map(key -> Map.entry(key, get(key)))
+                .collect(toSet());
+        }
+
+        private Object invoke(final String accessor) {
+            try {
+                final Object invocationResult = accessors.get(accessor).invoke(delegate);
+                final Object result;
+                if (invocationResult == null) {
+                    result = "";
+                } else {
+                    result = invocationResult;
                 }
+                return result;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(
+                    String.format("can not determine %s of %s!", accessor, delegate.objectname()),
+                    e
+                );
             }
-            return result.stream();
         }
 
-        private List<Method> methodsOf(final Class<?> cls) {
+        private static List<Method> methodsOf(final Class<?> cls) {
             final List<Method> result = new ArrayList<>();
             if (Modifier.isPublic(cls.getModifiers())) {
                 result.addAll(
@@ -110,26 +210,14 @@ public final class MustacheJavaClassTemplate implements JavaClassTemplate {
                     result.addAll(methodsOf(cls.getSuperclass()));
                 }
                 result.addAll(
-                    Arrays.stream(cls.getInterfaces()).map(this::methodsOf).flatMap(Collection::stream).toList()
+                    Arrays
+                        .stream(cls.getInterfaces())
+                        .map(ClassDefinitionWithLambdas::methodsOf)
+                        .flatMap(Collection::stream)
+                        .toList()
                 );
             }
             return result;
         }
-
-        private Stream<Map.Entry<String, Object>> lamdas() {
-            return Stream.of(
-                Map.entry(
-                    "cap1stChar",
-                    (Mustache.Lambda) (frag, out) -> {
-                        final String key = frag.execute();
-                        final char[] chars = key.toCharArray();
-                        if (chars.length > 0) {
-                            chars[0] = Character.toUpperCase(chars[0]);
-                        }
-                        out.write(chars);
-                    }
-                )
-            );
-        }
     }
 }
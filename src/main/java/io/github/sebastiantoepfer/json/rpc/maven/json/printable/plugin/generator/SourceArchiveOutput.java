@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * keeps the generated classes in memory and writes all of them at once into a single sources archive, instead of
+ * creating a directory and a file per class.
+ */
+public final class SourceArchiveOutput implements TemplateOutput {
+
+    /**
+     * earliest time a zip entry can hold, used if the build does not define an output timestamp.
+     */
+    public static final Instant DEFAULT_ENTRY_TIME = Instant.parse("1980-01-01T00:00:02Z");
+
+    private static final Logger LOG = Logger.getLogger(SourceArchiveOutput.class.getName());
+
+    private final NavigableMap<String, String> sources;
+
+    public SourceArchiveOutput() {
+        this.sources = new ConcurrentSkipListMap<>();
+    }
+
+    @Override
+    public Writer createWriterFor(final String packageName, final String className) throws IOException {
+        return new SourceWriter(String.format("%s.%s", packageName, className));
+    }
+
+    /**
+     * content by full qualified class name of every class generated through this output, e.g. to compile them
+     * without reading them from disk.
+     */
+    public Map<String, String> sources() {
+        return Map.copyOf(sources);
+    }
+
+    /**
+     * replaces the archive with one containing all classes generated so far, see
+     * {@link #writeTo(Path, Instant)}.
+     *
+     * @param archive file of the archive, e.g. target/printablejson-sources.jar
+     * @return true if the archive was written, false if it was unchanged
+     * @throws IOException if the archive can not be written
+     */
+    public boolean writeTo(final Path archive) throws IOException {
+        return writeTo(archive, DEFAULT_ENTRY_TIME);
+    }
+
+    /**
+     * replaces the archive with one containing all classes generated so far. all entries get the same time, so the
+     * archive is only written if one of the classes has changed.
+     *
+     * @param archive file of the archive, e.g. target/printablejson-sources.jar
+     * @param entryTime time of every entry, e.g. the project.build.outputTimestamp
+     * @return true if the archive was written, false if it was unchanged
+     * @throws IOException if the archive can not be written
+     */
+    public boolean writeTo(final Path archive, final Instant entryTime) throws IOException {
+        LOG.entering(SourceArchiveOutput.class.getName(), "writeTo", archive);
+        final byte[] content = archiveContent(LocalDateTime.ofInstant(entryTime, ZoneOffset.UTC));
+        final boolean result = !Files.exists(archive) || !Arrays.equals(Files.readAllBytes(archive), content);
+        if (result) {
+            final Path parent = archive.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(archive, content);
+        }
+        LOG.exiting(SourceArchiveOutput.class.getName(), "writeTo", result);
+        return result;
+    }
+
+    private byte[] archiveContent(final LocalDateTime entryTime) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(result, StandardCharsets.UTF_8)) {
+            for (final Map.Entry<String, String> source : sources.entrySet()) {
+                final ZipEntry entry = new ZipEntry(String.format("%s.java", source.getKey().replace('.', '/')));
+                entry.setTimeLocal(entryTime);
+                zip.putNextEntry(entry);
+                zip.write(source.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return result.toByteArray();
+    }
+
+    private final class SourceWriter extends StringWriter {
+
+        private final String fullQualifiedName;
+        private boolean closed;
+
+        SourceWriter(final String fullQualifiedName) {
+            this.fullQualifiedName = fullQualifiedName;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                sources.put(fullQualifiedName, toString());
+            }
+        }
+    }
+}
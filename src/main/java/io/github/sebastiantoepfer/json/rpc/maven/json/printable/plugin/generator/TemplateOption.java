@@ -0,0 +1,48 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+/**
+ * optional parts of the generated classes, every option is available as boolean in the templates.
+ */
+public enum TemplateOption {
+    /**
+     * a mutable builder per class, to create objects with many optional values without a copy per value.
+     */
+    BUILDER("builder"),
+    /**
+     * a writeTo(JsonGenerator) per class, which writes the fields directly without intermediate printables.
+     */
+    JSON_GENERATOR_WRITER("jsonGeneratorWriter");
+
+    private final String templateKey;
+
+    TemplateOption(final String templateKey) {
+        this.templateKey = templateKey;
+    }
+
+    public String templateKey() {
+        return templateKey;
+    }
+}
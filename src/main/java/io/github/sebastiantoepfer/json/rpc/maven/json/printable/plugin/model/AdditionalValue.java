@@ -23,4 +23,33 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 
-public final record AdditionalValue(String pattern, String type) {}
+import java.util.regex.Pattern;
+
+public final record AdditionalValue(String pattern, String type) {
+    //an anchored pattern without any character with a special meaning in a regex or a java string literal.
+    private static final Pattern LITERAL_PREFIX = Pattern.compile("\\^[^\\\\^$.|?*+()\\[\\]{}\"]*");
+
+    /**
+     * patterns like ^x- (specification extensions) only require a literal prefix, which can be checked without a regex.
+     *
+     * @return true if the pattern only requires a literal prefix
+     */
+    public boolean hasLiteralPrefix() {
+        return LITERAL_PREFIX.matcher(pattern).matches();
+    }
+
+    /**
+     * prefix required by the pattern.
+     *
+     * @return the prefix or null if the pattern is not a literal prefix
+     */
+    public String literalPrefix() {
+        final String result;
+        if (hasLiteralPrefix()) {
+            result = pattern.substring(1);
+        } else {
+            result = null;
+        }
+        return result;
+    }
+}
@@ -23,15 +23,22 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CompositeTypeRegistry implements TypeRegistry {
 
     private final List<TypeRegistry> registries;
+    //the same typeable is asked for its imports more than once, also by parallel renderers. the registry is created
+    //for the generation of one schema set, so the typeables are dropped together with it.
+    private final Map<Typeable, Set<String>> fullQualifiedNames;
 
     public CompositeTypeRegistry() {
         this(List.of());
@@ -39,6 +46,7 @@ public class CompositeTypeRegistry implements TypeRegistry {
 
     public CompositeTypeRegistry(final Collection<TypeRegistry> registries) {
         this.registries = List.copyOf(registries);
+        this.fullQualifiedNames = new ConcurrentHashMap<>();
     }
 
     public CompositeTypeRegistry withRegistry(final TypeRegistry registry) {
@@ -49,10 +57,16 @@ public class CompositeTypeRegistry implements TypeRegistry {
 
     @Override
     public Collection<String> determineFullQualifiedNameOf(final Typeable property) {
-        return registries
-            .stream()
-            .map(registry -> registry.determineFullQualifiedNameOf(property))
-            .flatMap(Collection::stream)
-            .collect(toSet());
+        Set<String> result = fullQualifiedNames.get(property);
+        if (result == null) {
+            final Set<String> names = registries
+                .stream()
+                .map(registry -> registry.determineFullQualifiedNameOf(property))
+                .flatMap(Collection::stream)
+                .collect(toUnmodifiableSet());
+            //a parallel renderer could have been faster, its names are returned to all
+            result = Objects.requireNonNullElse(fullQualifiedNames.putIfAbsent(property, names), names);
+        }
+        return result;
     }
 }
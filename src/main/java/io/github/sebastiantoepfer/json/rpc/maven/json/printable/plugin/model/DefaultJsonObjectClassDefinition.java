@@ -28,22 +28,23 @@ import static java.util.function.Predicate.not;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.ddd.common.Printable;
 import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
-import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.FirstCharToUpperCase;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.processing.Generated;
 
@@ -52,16 +53,30 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
     private final JsonObject object;
     private final TypeRegistry typeRegistry;
     private final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping;
+    private final boolean builder;
     private String packageName;
+    private ClassModel model;
 
     DefaultJsonObjectClassDefinition(
         final JsonObject object,
         final TypeRegistry typeRegistry,
         final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping
+    ) {
+        this(object, typeRegistry, jsonTypeToJavaTypeMapping, null, false);
+    }
+
+    private DefaultJsonObjectClassDefinition(
+        final JsonObject object,
+        final TypeRegistry typeRegistry,
+        final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping,
+        final String packageName,
+        final boolean builder
     ) {
         this.object = Objects.requireNonNull(object);
         this.typeRegistry = Objects.requireNonNull(typeRegistry);
         this.jsonTypeToJavaTypeMapping = jsonTypeToJavaTypeMapping;
+        this.packageName = packageName;
+        this.builder = builder;
     }
 
     @Override
@@ -71,28 +86,22 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
 
     @Override
     public Set<String> imports() {
-        return determineImports(createPropertiesDefinitions());
+        return model().imports;
     }
 
     @Override
     public List<EnumProperty> enums() {
-        return createPropertiesDefinitions()
-            .stream()
-            .filter(e -> e.enumValue() != null)
-            .map(p -> p.enumValue())
-            .toList();
+        return model().enums;
     }
 
     @Override
     public List<Property> properties() {
-        final List<String> required = determineRequired();
-        return createPropertiesDefinitions().stream().filter(not(p -> required.contains(p.name()))).toList();
+        return model().properties;
     }
 
     @Override
     public List<Property> required() {
-        final List<String> required = determineRequired();
-        return createPropertiesDefinitions().stream().filter(p -> required.contains(p.name())).toList();
+        return model().required;
     }
 
     @Override
@@ -101,6 +110,15 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
         return this;
     }
 
+    /**
+     * the builder needs some more imports, which are part of the cached model. so the definition with builder is a
+     * new one with its own model.
+     */
+    @Override
+    public JsonObjectClassDefinition withBuilder() {
+        return new DefaultJsonObjectClassDefinition(object, typeRegistry, jsonTypeToJavaTypeMapping, packageName, true);
+    }
+
     @Override
     public String packagename() {
         return packageName;
@@ -113,6 +131,17 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
 
     @Override
     public AdditionalValue additionalValues() {
+        return model().additionalValue;
+    }
+
+    private synchronized ClassModel model() {
+        if (model == null) {
+            model = new ClassModel();
+        }
+        return model;
+    }
+
+    private AdditionalValue determineAdditionalValue() {
         return object
             .getOrDefault("patternProperties", JsonValue.EMPTY_JSON_OBJECT)
             .asJsonObject()
@@ -129,16 +158,7 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
             .orElse(null);
     }
 
-    private Set<String> determineImports(final List<Property> properties) {
-        return properties
-            .stream()
-            .map(typeRegistry::determineFullQualifiedNameOf)
-            .flatMap(Collection::stream)
-            .filter(Predicate.not(String::isBlank))
-            .collect(Collectors.toCollection(() -> new TreeSet<>(commonImports())));
-    }
-
-    private Collection<String> commonImports() {
+    private Collection<String> commonImports(final AdditionalValue additionalValue) {
         final Stream<Class<?>> result;
         final Stream<Class<?>> basicImports = Stream.of(
             Generated.class,
@@ -147,40 +167,108 @@ class DefaultJsonObjectClassDefinition implements JsonObjectClassDefinition {
             CompositePrintable.class,
             Objects.class
         );
-        if (hasAdditionalValues()) {
-            result =
-                Stream.concat(basicImports, Stream.of(Map.class, HashMap.class, Pattern.class, NamedPrintable.class));
-        } else {
+        if (additionalValue == null) {
             result = basicImports;
+        } else if (additionalValue.hasLiteralPrefix()) {
+            result = Stream.concat(basicImports, Stream.of(Map.class, HashMap.class));
+        } else {
+            result = Stream.concat(basicImports, Stream.of(Map.class, HashMap.class, Pattern.class, Predicate.class));
         }
         return result.map(Class::getName).toList();
     }
 
     private List<Property> createPropertiesDefinitions() {
-        return object
+        final List<Map.Entry<String, JsonValue>> entries = object
             .getOrDefault("properties", JsonValue.EMPTY_JSON_OBJECT)
             .asJsonObject()
             .entrySet()
             .stream()
             .filter(not(e -> Objects.equals(e.getKey(), "$schema")))
-            .map(json -> new Property(this, typeRegistry, jsonTypeToJavaTypeMapping, json))
+            .toList();
+        final Map<String, String> keyConstants = keyConstantsOf(entries.stream().map(Map.Entry::getKey).toList());
+        return entries
+            .stream()
+            .map(json ->
+                new Property(this, typeRegistry, jsonTypeToJavaTypeMapping, json, keyConstants.get(json.getKey()))
+            )
             .filter(not(p -> Objects.equals(p.genericType(), "String")))
             .toList();
     }
 
-    private List<String> determineRequired() {
-        final List<String> required;
+    /**
+     * different keys can lead to the same constant (e.g. $ref and ref, foo-bar and foo_bar), every later key gets a
+     * number in schema order (KEY_REF, KEY_REF_2).
+     */
+    private static Map<String, String> keyConstantsOf(final List<String> names) {
+        final Map<String, String> result = new HashMap<>();
+        final Set<String> used = new HashSet<>();
+        for (final String name : names) {
+            final String constant = Property.keyConstantOf(name);
+            String unique = constant;
+            int suffix = 1;
+            while (!used.add(unique)) {
+                suffix++;
+                unique = String.format("%s_%d", constant, suffix);
+            }
+            result.put(name, unique);
+        }
+        return result;
+    }
+
+    private Set<String> determineRequired() {
+        final Set<String> required;
         if (object.containsKey("required")) {
-            required =
-                object
-                    .getJsonArray("required")
-                    .stream()
-                    .map(JsonString.class::cast)
-                    .map(JsonString::getString)
-                    .toList();
+            required = new HashSet<>();
+            object.getJsonArray("required").getValuesAs(JsonString::getString).forEach(required::add);
         } else {
-            required = Collections.emptyList();
+            required = Collections.emptySet();
         }
         return required;
     }
+
+    /**
+     * everything the templates need from the json object, computed once in a single pass over the properties.
+     */
+    private final class ClassModel {
+
+        private final List<Property> properties;
+        private final List<Property> required;
+        private final List<EnumProperty> enums;
+        private final Set<String> imports;
+        private final AdditionalValue additionalValue;
+
+        ClassModel() {
+            final Set<String> requiredNames = determineRequired();
+            final List<Property> optionalProperties = new ArrayList<>();
+            final List<Property> requiredProperties = new ArrayList<>();
+            final List<EnumProperty> enumProperties = new ArrayList<>();
+            this.additionalValue = determineAdditionalValue();
+            final Set<String> neededImports = new TreeSet<>(commonImports(additionalValue));
+            if (builder) {
+                neededImports.add(List.class.getName());
+                neededImports.add(ArrayList.class.getName());
+            }
+            for (final Property property : createPropertiesDefinitions()) {
+                if (requiredNames.contains(property.name())) {
+                    requiredProperties.add(property);
+                } else {
+                    optionalProperties.add(property);
+                }
+                final EnumProperty enumValue = property.enumValue();
+                if (enumValue != null) {
+                    enumProperties.add(enumValue);
+                    neededImports.add(Optional.class.getName());
+                }
+                typeRegistry
+                    .determineFullQualifiedNameOf(property)
+                    .stream()
+                    .filter(Predicate.not(String::isBlank))
+                    .forEach(neededImports::add);
+            }
+            this.properties = List.copyOf(optionalProperties);
+            this.required = List.copyOf(requiredProperties);
+            this.enums = List.copyOf(enumProperties);
+            this.imports = Collections.unmodifiableSet(neededImports);
+        }
+    }
 }
@@ -41,6 +41,8 @@ public interface JsonObjectClassDefinition {
 
     JsonObjectClassDefinition withPackage(String packagename);
 
+    JsonObjectClassDefinition withBuilder();
+
     boolean hasAdditionalValues();
 
     AdditionalValue additionalValues();
@@ -24,13 +24,18 @@
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import java.util.Objects;
+import java.util.Optional;
 
 class JsonTypeResolver {
 
     private final JsonObject typeInfo;
+    private final SchemaReferences references;
 
-    public JsonTypeResolver(final JsonObject typeInfo) {
+    public JsonTypeResolver(final JsonObject typeInfo, final SchemaReferences references) {
         this.typeInfo = typeInfo;
+        this.references = Objects.requireNonNull(references);
     }
 
     public String resolveType() {
@@ -49,11 +54,33 @@ class JsonTypeResolver {
                 result = typeInJson;
             }
         } else if (typeInfo.containsKey("$ref")) {
-            final String ref = typeInfo.getString("$ref");
-            result = ref.substring(ref.lastIndexOf('/') + 1);
+            result =
+                references
+                    .resolveReferenceOf(typeInfo)
+                    .flatMap(JsonTypeResolver::classname)
+                    .orElseGet(this::refName);
         } else {
             result = "object";
         }
         return result;
     }
+
+    /**
+     * referenced objects are generated as classes named after their title (the reference itself could point to a
+     * file like common.json).
+     */
+    private static Optional<String> classname(final JsonObject schema) {
+        final Optional<String> result;
+        if ("object".equals(schema.getString("type", "")) && schema.get("title") instanceof JsonString title) {
+            result = Optional.of(title.getString());
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private String refName() {
+        final String ref = typeInfo.getString("$ref");
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
 }
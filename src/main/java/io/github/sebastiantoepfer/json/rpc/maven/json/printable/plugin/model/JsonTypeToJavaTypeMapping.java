@@ -23,10 +23,15 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
 import io.github.sebastiantoepfer.ddd.common.Printable;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.FirstCharToUpperCase;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import java.net.URL;
 import java.util.Collection;
 import java.util.HashSet;
@@ -34,14 +39,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public final class JsonTypeToJavaTypeMapping implements TypeRegistry {
 
     private final Map<String, ClassType> jsonToJava;
+    private final Map<String, Set<String>> fullQualifiedNamesBySimpleName;
+    private final Map<SchemaNode, JavaTypeResolver> resolved;
+    private final SchemaReferences references;
 
     public JsonTypeToJavaTypeMapping() {
-        this.jsonToJava =
+        this(
             Map.ofEntries(
                 Map.entry("integer", new ClassType(long.class.getSimpleName(), false)),
                 Map.entry("boolean", new ClassType(boolean.class.getSimpleName(), false)),
@@ -62,9 +72,41 @@ public final class JsonTypeToJavaTypeMapping implements TypeRegistry {
                         List.of(new ClassType(JsonSchema.class.getSimpleName(), JsonSchema.class.getCanonicalName()))
                     )
                 )
+            ),
+            SchemaReferences.of(JsonValue.EMPTY_JSON_OBJECT)
+        );
+    }
+
+    private JsonTypeToJavaTypeMapping(final Map<String, ClassType> jsonToJava, final SchemaReferences references) {
+        this.jsonToJava = jsonToJava;
+        this.references = Objects.requireNonNull(references);
+        this.resolved = new ConcurrentHashMap<>();
+        this.fullQualifiedNamesBySimpleName =
+            Map.copyOf(
+                jsonToJava
+                    .values()
+                    .stream()
+                    .filter(type -> type.fullQulifiedName().isPresent())
+                    .collect(
+                        groupingBy(
+                            ClassType::name,
+                            mapping(type -> type.fullQulifiedName().orElseThrow(), toUnmodifiableSet())
+                        )
+                    )
             );
     }
 
+    /**
+     * mapping which names referenced types after the schemas they point to. it has its own resolved nodes, because
+     * the java types depend on the references.
+     *
+     * @param references index of the schema the nodes are part of
+     * @return mapping for the nodes of the indexed schema
+     */
+    public JsonTypeToJavaTypeMapping withReferences(final SchemaReferences references) {
+        return new JsonTypeToJavaTypeMapping(jsonToJava, references);
+    }
+
     @Override
     public Collection<String> determineFullQualifiedNameOf(final Typeable property) {
         final Collection<String> result = new HashSet<>();
@@ -76,72 +118,81 @@ public final class JsonTypeToJavaTypeMapping implements TypeRegistry {
     }
 
     private Collection<String> fullQulifiedNameOf(final String typeName) {
-        return jsonToJava
-            .values()
-            .stream()
-            .filter(type -> type.hasName(typeName))
-            .map(ClassType::fullQulifiedName)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toList();
+        return fullQualifiedNamesBySimpleName.getOrDefault(typeName, Set.of());
     }
 
+    /**
+     * resolves the java type of a schema node. a node is resolved only once per mapping, every later call returns the
+     * same resolver. every {@link SchemaParser} uses its own mapping (see {@link #withReferences(SchemaReferences)}),
+     * so the resolved nodes are dropped together with the model of one generation.
+     */
     public JavaTypeResolver resolveFor(final JsonObject typeInfo) {
-        return new JavaTypeResolver(typeInfo);
+        return resolved.computeIfAbsent(new SchemaNode(typeInfo), node -> new JavaTypeResolver(node.json()));
+    }
+
+    /**
+     * a schema node compared by identity: equal nodes of different documents can resolve to different types (e.g.
+     * relative references) and the hash code of a json object is computed from its whole content.
+     */
+    private record SchemaNode(JsonObject json) {
+        @Override
+        @SuppressWarnings("ReferenceEquality")
+        public boolean equals(final Object other) {
+            return other instanceof SchemaNode node && node.json == json;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(json);
+        }
     }
 
-    public class JavaTypeResolver {
+    public final class JavaTypeResolver {
 
-        private final JsonObject typeInfo;
+        private final String jsonType;
+        private final String type;
+        private final boolean nullable;
+        private final boolean hasInterfaces;
+        private final List<Class<?>> interfaces;
 
         private JavaTypeResolver(final JsonObject typeInfo) {
-            this.typeInfo = typeInfo;
+            this.jsonType = new JsonTypeResolver(typeInfo, references).resolveType();
+            final ClassType classType = jsonToJava.get(jsonType);
+            if (classType != null) {
+                this.type = classType.name();
+                this.nullable = classType.isNullable();
+                this.hasInterfaces = classType.hasInterfaces();
+                this.interfaces = classType.interfaces().toList();
+            } else {
+                if (List.of("oneOf", "enum").contains(jsonType)) {
+                    this.type = new FirstCharToUpperCase(typeInfo.getString("title")).toCase();
+                } else {
+                    this.type = new FirstCharToUpperCase(jsonType).toCase();
+                }
+                this.nullable = true;
+                this.hasInterfaces = false;
+                this.interfaces = List.of();
+            }
+        }
+
+        String jsonType() {
+            return jsonType;
         }
 
         public String resolveType() {
-            final String result;
-            final String jsonType = new JsonTypeResolver(typeInfo).resolveType();
-            if (jsonToJava.containsKey(jsonType)) {
-                result = jsonToJava.get(jsonType).name();
-            } else if (List.of("oneOf", "enum").contains(jsonType)) {
-                result = new FirstCharToUpperCase(typeInfo.getString("title")).toCase();
-            } else {
-                result = new FirstCharToUpperCase(jsonType).toCase();
-            }
-            return result;
+            return type;
         }
 
         boolean isNullable() {
-            final boolean result;
-            final String jsonType = new JsonTypeResolver(typeInfo).resolveType();
-            if (jsonToJava.containsKey(jsonType)) {
-                result = jsonToJava.get(jsonType).isNullable();
-            } else {
-                result = true;
-            }
-            return result;
+            return nullable;
         }
 
         boolean hasInterfaces() {
-            final boolean result;
-            final String jsonType = new JsonTypeResolver(typeInfo).resolveType();
-            if (jsonToJava.containsKey(jsonType)) {
-                result = jsonToJava.get(jsonType).hasInterfaces();
-            } else {
-                result = false;
-            }
-            return result;
+            return hasInterfaces;
         }
 
         public Stream<Class<?>> interfaces() {
-            final Stream<Class<?>> result;
-            final String jsonType = new JsonTypeResolver(typeInfo).resolveType();
-            if (jsonToJava.containsKey(jsonType)) {
-                result = jsonToJava.get(jsonType).interfaces();
-            } else {
-                result = Stream.empty();
-            }
-            return result;
+            return interfaces.stream();
         }
     }
 
@@ -188,10 +239,6 @@ public final class JsonTypeToJavaTypeMapping implements TypeRegistry {
             return Optional.ofNullable(fullQualifiedName);
         }
 
-        public boolean hasName(final String name) {
-            return this.name.equals(name);
-        }
-
         public boolean isNullable() {
             return nullable;
         }
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static java.util.stream.Collectors.joining;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * signature of an interface method, which must be delegated by a generated class. the signatures are read once per
+ * interface and jvm, so the templates and the imports do not need reflection.
+ *
+ * @param name name of the method
+ * @param returnType type returned by the method
+ * @param parameters parameters of the method in declaration order
+ */
+public final record MethodSignature(String name, TypeName returnType, List<Parameter> parameters) {
+    //overloaded methods are ordered by their parameters, the order of getMethods is unspecified.
+    private static final Comparator<MethodSignature> ORDER = Comparator
+        .comparing(MethodSignature::name)
+        .thenComparing(MethodSignature::parameterTypes);
+
+    private static final ClassValue<List<MethodSignature>> SIGNATURES = new ClassValue<>() {
+        @Override
+        protected List<MethodSignature> computeValue(final Class<?> type) {
+            return Arrays.stream(type.getMethods()).map(MethodSignature::new).sorted(ORDER).toList();
+        }
+    };
+
+    public MethodSignature {
+        parameters = List.copyOf(parameters);
+    }
+
+    private MethodSignature(final Method method) {
+        this(
+            method.getName(),
+            new TypeName(method.getReturnType()),
+            Arrays
+                .stream(method.getParameters())
+                .map(parameter -> new Parameter(parameter.getName(), new TypeName(parameter.getType())))
+                .toList()
+        );
+    }
+
+    /**
+     * public methods of the type, sorted by name and parameter types.
+     *
+     * @param type interface to read the methods from
+     * @return signatures of all public methods
+     */
+    public static List<MethodSignature> of(final Class<?> type) {
+        return SIGNATURES.get(type);
+    }
+
+    /**
+     * types which must be imported to declare this method.
+     *
+     * @return canonical names of return and parameter types outside of java.lang
+     */
+    public Stream<String> typesToImport() {
+        return Stream
+            .concat(Stream.of(returnType), parameters.stream().map(Parameter::type))
+            .filter(TypeName::needsImport)
+            .map(TypeName::canonicalName);
+    }
+
+    private String parameterTypes() {
+        return parameters.stream().map(parameter -> parameter.type().canonicalName()).collect(joining(","));
+    }
+
+    public record TypeName(String simpleName, String canonicalName, boolean needsImport) {
+        TypeName(final Class<?> type) {
+            this(type.getSimpleName(), type.getCanonicalName(), !type.getPackageName().startsWith("java.lang"));
+        }
+    }
+
+    public record Parameter(String name, TypeName type) {}
+}
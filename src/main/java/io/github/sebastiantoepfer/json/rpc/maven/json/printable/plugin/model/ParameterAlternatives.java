@@ -32,11 +32,7 @@ import io.github.sebastiantoepfer.ddd.common.Printable;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -51,6 +47,7 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
     private final JsonArray oneOf;
     private final TypeRegistry registry;
     private final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping;
+    private final List<ParameterAlternative> alternatives;
 
     public ParameterAlternatives(
         final Typeable parent,
@@ -62,6 +59,7 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
         this.oneOf = Objects.requireNonNull(oneOf);
         this.registry = Objects.requireNonNull(registry);
         this.jsonTypeToJavaTypeMapping = Objects.requireNonNull(jsonToJavaMapping);
+        this.alternatives = oneOf.stream().map(JsonValue::asJsonObject).map(ParameterAlternative::new).toList();
     }
 
     @Override
@@ -96,15 +94,7 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
             .stream()
             .map(ParameterAlternative::methods)
             .flatMap(Collection::stream)
-            .map(m -> {
-                final List<Class<?>> result = new ArrayList<>();
-                result.add(m.getReturnType());
-                result.addAll(Arrays.asList(m.getParameterTypes()));
-                return result;
-            })
-            .flatMap(Collection::stream)
-            .filter(not(cls -> cls.getPackageName().startsWith("java.lang")))
-            .map(Class::getCanonicalName);
+            .flatMap(MethodSignature::typesToImport);
     }
 
     @Override
@@ -144,8 +134,28 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
         return this;
     }
 
+    @Override
+    public JsonObjectClassDefinition withBuilder() {
+        return this;
+    }
+
+    /**
+     * checks if both describe the same class, which is the case if name, package and alternatives are equal.
+     *
+     * @param other alternatives to compare with
+     * @return true if only one of both must be generated
+     */
+    public boolean describesSameClassAs(final ParameterAlternatives other) {
+        return (
+            Objects.equals(packagename(), other.packagename()) &&
+            Objects.equals(objectname(), other.objectname()) &&
+            Objects.equals(oneOf, other.oneOf)
+        );
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP")
     public List<ParameterAlternative> alternatives() {
-        return oneOf.stream().map(JsonValue::asJsonObject).map(ParameterAlternative::new).toList();
+        return alternatives;
     }
 
     @Override
@@ -160,10 +170,10 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
 
     public final class ParameterAlternative implements Typeable {
 
-        private final JsonObject obj;
+        private final JsonTypeToJavaTypeMapping.JavaTypeResolver typeResolver;
 
         private ParameterAlternative(final JsonObject obj) {
-            this.obj = obj;
+            this.typeResolver = jsonTypeToJavaTypeMapping.resolveFor(obj);
         }
 
         @Override
@@ -202,18 +212,17 @@ public final class ParameterAlternatives implements JsonObjectClassDefinition {
             return typeResolver().interfaces().map(Class::getSimpleName).toList();
         }
 
-        public Collection<Method> methods() {
+        public Collection<MethodSignature> methods() {
             return typeResolver()
                 .interfaces()
-                .map(Class::getMethods)
-                .flatMap(Arrays::stream)
-                .filter(not(m -> List.of("toString", "printOn").contains(m.getName())))
-                .sorted(Comparator.comparing(Method::getName))
+                .map(MethodSignature::of)
+                .flatMap(Collection::stream)
+                .filter(not(m -> List.of("toString", "printOn").contains(m.name())))
                 .toList();
         }
 
         private JsonTypeToJavaTypeMapping.JavaTypeResolver typeResolver() {
-            return jsonTypeToJavaTypeMapping.resolveFor(obj);
+            return typeResolver;
         }
 
         @Override
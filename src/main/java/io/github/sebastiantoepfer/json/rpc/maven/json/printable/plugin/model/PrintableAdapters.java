@@ -23,6 +23,8 @@
  */
 package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
 import io.github.sebastiantoepfer.ddd.common.Printable;
 import io.github.sebastiantoepfer.ddd.printables.core.NamedBooleanPrintable;
 import io.github.sebastiantoepfer.ddd.printables.core.NamedListPrintable;
@@ -34,27 +36,33 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Stream;
 
+/**
+ * the adapters are immutable and indexed once, so one instance can be shared by all properties.
+ */
 public final class PrintableAdapters implements TypeRegistry {
 
-    private final Class<? extends Printable> defaultAdapter;
-    private final Map<String, Class<? extends Printable>> typeToAdapter;
-
-    public PrintableAdapters() {
-        this.defaultAdapter = NamedPrintable.class;
-        this.typeToAdapter =
-            Map.of(
-                "String",
-                NamedStringPrintable.class,
-                "URL",
-                NamedStringPrintable.class,
-                "List",
-                NamedListPrintable.class,
-                "boolean",
-                NamedBooleanPrintable.class,
-                "long",
-                NamedNumberPrintable.class
-            );
-    }
+    private static final Class<? extends Printable> DEFAULT_ADAPTER = NamedPrintable.class;
+    private static final Map<String, String> ADAPTER_BY_TYPE = Map.of(
+        "String",
+        NamedStringPrintable.class.getSimpleName(),
+        "URL",
+        NamedStringPrintable.class.getSimpleName(),
+        "List",
+        NamedListPrintable.class.getSimpleName(),
+        "boolean",
+        NamedBooleanPrintable.class.getSimpleName(),
+        "long",
+        NamedNumberPrintable.class.getSimpleName()
+    );
+    private static final Map<String, String> FULL_QUALIFIED_NAME_BY_ADAPTER = Stream
+        .of(
+            DEFAULT_ADAPTER,
+            NamedStringPrintable.class,
+            NamedListPrintable.class,
+            NamedBooleanPrintable.class,
+            NamedNumberPrintable.class
+        )
+        .collect(toUnmodifiableMap(Class::getSimpleName, Class::getCanonicalName));
 
     @Override
     public Collection<String> determineFullQualifiedNameOf(final Typeable property) {
@@ -68,15 +76,14 @@ public final class PrintableAdapters implements TypeRegistry {
     }
 
     private String fullQulifiedNameForAdapter(final String adapter) {
-        return Stream
-            .concat(Stream.of(defaultAdapter), typeToAdapter.values().stream())
-            .filter(cls -> cls.getSimpleName().equals(adapter))
-            .map(Class::getCanonicalName)
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(String.format("invalid adapter: %s!", adapter)));
+        final String result = FULL_QUALIFIED_NAME_BY_ADAPTER.get(adapter);
+        if (result == null) {
+            throw new IllegalArgumentException(String.format("invalid adapter: %s!", adapter));
+        }
+        return result;
     }
 
     public String determineAdapterForType(final String type) {
-        return typeToAdapter.getOrDefault(type, defaultAdapter).getSimpleName();
+        return ADAPTER_BY_TYPE.getOrDefault(type, DEFAULT_ADAPTER.getSimpleName());
     }
 }
@@ -26,29 +26,67 @@ package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.FirstCharToUpperCase;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 public final class Property implements Typeable {
 
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z0-9])([A-Z])");
+    private static final Pattern NO_IDENTIFIER_CHARS = Pattern.compile("[^A-Za-z0-9]+");
+    private static final Map<String, String> BOXED_TYPES = Map.of(
+        long.class.getSimpleName(),
+        Long.class.getSimpleName(),
+        boolean.class.getSimpleName(),
+        Boolean.class.getSimpleName()
+    );
+
+    private static final PrintableAdapters ADAPTERS = new PrintableAdapters();
+    //shared, so its nodes are resolved only once
+    private static final JsonArray SCHEMA_ALTERNATIVES = Json
+        .createArrayBuilder()
+        .add(Json.createObjectBuilder().add("$ref", "#/fake/jsonSchemaObject"))
+        .add(Json.createObjectBuilder().add("$ref", "#/definitions/referenceObject"))
+        .build();
+
     private final JsonObjectClassDefinition owner;
     private final TypeRegistry typeRegistry;
     private final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping;
     private final Map.Entry<String, JsonValue> json;
+    private final JsonTypeToJavaTypeMapping.JavaTypeResolver typeResolver;
+    private final JsonTypeToJavaTypeMapping.JavaTypeResolver genericTypeResolver;
+    private final ParameterAlternatives alternatives;
+    private final String type;
+    private final String keyConstant;
 
+    /**
+     * @param keyConstant name of the constant of the key, unique in the owner (see {@link #keyConstantOf(String)})
+     */
     Property(
         final JsonObjectClassDefinition owner,
         final TypeRegistry typeRegistry,
         final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping,
-        final Map.Entry<String, JsonValue> json
+        final Map.Entry<String, JsonValue> json,
+        final String keyConstant
     ) {
         this.owner = Objects.requireNonNull(owner);
         this.typeRegistry = Objects.requireNonNull(typeRegistry);
-        this.jsonTypeToJavaTypeMapping = jsonTypeToJavaTypeMapping;
+        this.jsonTypeToJavaTypeMapping = Objects.requireNonNull(jsonTypeToJavaTypeMapping);
         this.json = Objects.requireNonNull(json);
+        this.typeResolver = jsonTypeToJavaTypeMapping.resolveFor(json.getValue().asJsonObject());
+        if (isArray()) {
+            this.genericTypeResolver = jsonTypeToJavaTypeMapping.resolveFor(jsonForGenericType());
+        } else {
+            this.genericTypeResolver = null;
+        }
+        this.alternatives = determineAlternatives();
+        this.type = determineType();
+        this.keyConstant = Objects.requireNonNull(keyConstant);
     }
 
     public String getToString() {
@@ -67,9 +105,9 @@ public final class Property implements Typeable {
     public String adapter() {
         final String result;
         if (getToString() == null) {
-            result = new PrintableAdapters().determineAdapterForType(type());
+            result = ADAPTERS.determineAdapterForType(type());
         } else {
-            result = new PrintableAdapters().determineAdapterForType("String");
+            result = ADAPTERS.determineAdapterForType("String");
         }
         return result;
     }
@@ -77,10 +115,10 @@ public final class Property implements Typeable {
     @Override
     public String genericType() {
         final String result;
-        if (isArray()) {
-            result = jsonTypeToJavaTypeMapping.resolveFor(jsonForGenericType()).resolveType();
-        } else {
+        if (genericTypeResolver == null) {
             result = null;
+        } else {
+            result = genericTypeResolver.resolveType();
         }
         return result;
     }
@@ -95,7 +133,12 @@ public final class Property implements Typeable {
         return result;
     }
 
+    @SuppressFBWarnings("EI_EXPOSE_REP")
     public ParameterAlternatives alternatives() {
+        return alternatives;
+    }
+
+    private ParameterAlternatives determineAlternatives() {
         final ParameterAlternatives result;
         if (Objects.equals(jsonType(), "oneOf")) {
             result =
@@ -105,7 +148,7 @@ public final class Property implements Typeable {
                 );
         } else if (Objects.equals(jsonType(), "JSONSchema")) {
             result = schemaAlternative();
-        } else if (isArray() && Objects.equals(new JsonTypeResolver(jsonForGenericType()).resolveType(), "oneOf")) {
+        } else if (isArray() && Objects.equals(genericTypeResolver.jsonType(), "oneOf")) {
             result = oneOfAlternative(jsonForGenericType(), genericType());
         } else {
             result = null;
@@ -120,11 +163,7 @@ public final class Property implements Typeable {
     private ParameterAlternatives schemaAlternative() {
         return new ParameterAlternatives(
             new OneOfAlternativeTypeable("JsonSchemaOrReference"),
-            Json
-                .createArrayBuilder()
-                .add(Json.createObjectBuilder().add("$ref", "#/fake/jsonSchemaObject"))
-                .add(Json.createObjectBuilder().add("$ref", "#/definitions/referenceObject"))
-                .build(),
+            SCHEMA_ALTERNATIVES,
             typeRegistry,
             jsonTypeToJavaTypeMapping
         );
@@ -151,28 +190,40 @@ public final class Property implements Typeable {
 
     @Override
     public String type() {
+        return type;
+    }
+
+    private String determineType() {
         final String result;
-        final ParameterAlternatives alternative = alternatives();
-        if (isArray() || alternative == null) {
-            result = jsonTypeToJavaTypeMapping.resolveFor(json.getValue().asJsonObject()).resolveType();
+        if (isArray() || alternatives == null) {
+            result = typeResolver.resolveType();
         } else {
-            result = alternative.objectname();
+            result = alternatives.objectname();
         }
         return result;
     }
 
+    /**
+     * type of a field holding this property, if it is optional. a primitive can not express an absent value.
+     *
+     * @return boxed type for primitives, the type otherwise
+     */
+    public String optionalType() {
+        return BOXED_TYPES.getOrDefault(type(), type());
+    }
+
     @Override
     public boolean isNullable() {
-        return jsonTypeToJavaTypeMapping.resolveFor(json.getValue().asJsonObject()).isNullable();
+        return typeResolver.isNullable();
     }
 
     @Override
     public boolean hasInterfaces() {
-        return jsonTypeToJavaTypeMapping.resolveFor(json.getValue().asJsonObject()).hasInterfaces();
+        return typeResolver.hasInterfaces();
     }
 
     private String jsonType() {
-        return new JsonTypeResolver(json.getValue().asJsonObject()).resolveType();
+        return typeResolver.jsonType();
     }
 
     @Override
@@ -180,6 +231,26 @@ public final class Property implements Typeable {
         return json.getKey();
     }
 
+    /**
+     * name of the constant holding the json key of this property, e.g. KEY_EXTERNAL_DOCS for externalDocs.
+     *
+     * @return name of the constant
+     */
+    public String keyConstant() {
+        return keyConstant;
+    }
+
+    /**
+     * name of the constant for a key, different keys can lead to the same name (e.g. $ref and ref).
+     */
+    static String keyConstantOf(final String name) {
+        final String words = CAMEL_CASE_BOUNDARY.matcher(name).replaceAll("$1_$2");
+        return String.format(
+            "KEY_%s",
+            NO_IDENTIFIER_CHARS.matcher(words).replaceAll("_").replaceAll("^_|_$", "").toUpperCase(Locale.ROOT)
+        );
+    }
+
     public String variableName() {
         final String result;
         final String name = name();
@@ -28,16 +28,25 @@ import static java.util.function.Predicate.not;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * open-rpc-meta-schema simple schema scanner ... but not a real good one :)
+ *
+ * <p>definitions and referenced schemas are taken from the {@link SchemaReferences}, so that every of them is only
+ * created once, regardless how often it is referenced.</p>
  */
 public final class SchemaParser {
 
+    private static final Set<String> IGNORED_NAMES = Set.of("specificationExtension", "JSONSchema");
     private final JsonObject schema;
+    private final SchemaReferences references;
     private final TypeRegistry typeRegistry;
     private final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping;
 
@@ -45,22 +54,54 @@ public final class SchemaParser {
         final JsonObject schema,
         final TypeRegistry typeRegistry,
         final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping
+    ) {
+        this(schema, SchemaReferences.of(schema), typeRegistry, jsonTypeToJavaTypeMapping);
+    }
+
+    public SchemaParser(
+        final JsonObject schema,
+        final SchemaReferences references,
+        final TypeRegistry typeRegistry,
+        final JsonTypeToJavaTypeMapping jsonTypeToJavaTypeMapping
     ) {
         this.schema = Objects.requireNonNull(schema);
+        this.references = Objects.requireNonNull(references);
         this.typeRegistry = Objects.requireNonNull(typeRegistry);
-        this.jsonTypeToJavaTypeMapping = jsonTypeToJavaTypeMapping;
+        this.jsonTypeToJavaTypeMapping = jsonTypeToJavaTypeMapping.withReferences(references);
     }
 
     public Stream<JsonObjectClassDefinition> createModel() {
+        final Set<JsonObject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        return Stream
+            .of(
+                Stream.of(schema),
+                references
+                    .definitions()
+                    .entrySet()
+                    .stream()
+                    .filter(not(e -> IGNORED_NAMES.stream().anyMatch(name -> e.getKey().endsWith("/" + name))))
+                    .map(Map.Entry::getValue),
+                references.referencedSchemas()
+            )
+            .flatMap(Function.identity())
+            .flatMap(subSchema -> createDefinitions(subSchema, visited))
+            .toList()
+            .stream();
+    }
+
+    private Stream<JsonObjectClassDefinition> createDefinitions(
+        final JsonObject subSchema,
+        final Set<JsonObject> visited
+    ) {
         final Stream<JsonObjectClassDefinition> result;
-        if (canBeUsedAsClass()) {
+        if (visited.add(subSchema) && canBeUsedAsClass(subSchema)) {
             result =
                 Stream.concat(
-                    Stream.of(new DefaultJsonObjectClassDefinition(schema, typeRegistry, jsonTypeToJavaTypeMapping)),
-                    Stream.concat(
-                        Stream.of("properties", "definitions").flatMap(this::extractDefinitionsFromProperty),
-                        patternProperties()
-                    )
+                    Stream.of(new DefaultJsonObjectClassDefinition(subSchema, typeRegistry, jsonTypeToJavaTypeMapping)),
+                    Stream
+                        .of("properties", "patternProperties")
+                        .flatMap(keyword -> nestedSchemas(subSchema, keyword))
+                        .flatMap(nestedSchema -> createDefinitions(nestedSchema, visited))
                 );
         } else {
             result = Stream.empty();
@@ -68,45 +109,22 @@ public final class SchemaParser {
         return result;
     }
 
-    private boolean canBeUsedAsClass() {
+    private static boolean canBeUsedAsClass(final JsonObject schema) {
         return (
             Objects.equals(schema.get("type"), Json.createValue("object")) &&
             !Objects.equals(schema.get("title"), JsonValue.NULL)
         );
     }
 
-    private Stream<JsonObjectClassDefinition> extractDefinitionsFromProperty(final String propertyName) {
-        final Stream<JsonObjectClassDefinition> result;
-        if (schema.containsKey(propertyName)) {
-            result =
-                schema
-                    .getJsonObject(propertyName)
-                    .entrySet()
-                    .stream()
-                    .filter(not(e -> Objects.equals(e.getKey(), "specificationExtension")))
-                    .filter(not(e -> Objects.equals(e.getKey(), "JSONSchema")))
-                    .map(Map.Entry::getValue)
-                    .filter(e -> e.getValueType() == JsonValue.ValueType.OBJECT)
-                    .map(JsonValue::asJsonObject)
-                    .flatMap(this::createDefinitions);
-        } else {
-            result = Stream.empty();
-        }
-        return result;
-    }
-
-    private Stream<JsonObjectClassDefinition> patternProperties() {
+    private static Stream<JsonObject> nestedSchemas(final JsonObject schema, final String keyword) {
         return schema
-            .getOrDefault("patternProperties", JsonValue.EMPTY_JSON_OBJECT)
+            .getOrDefault(keyword, JsonValue.EMPTY_JSON_OBJECT)
             .asJsonObject()
-            .values()
+            .entrySet()
             .stream()
+            .filter(not(e -> IGNORED_NAMES.contains(e.getKey())))
+            .map(Map.Entry::getValue)
             .filter(e -> e.getValueType() == JsonValue.ValueType.OBJECT)
-            .map(JsonValue::asJsonObject)
-            .flatMap(this::createDefinitions);
-    }
-
-    private Stream<JsonObjectClassDefinition> createDefinitions(final JsonObject subSchema) {
-        return new SchemaParser(subSchema, typeRegistry, jsonTypeToJavaTypeMapping).createModel();
+            .map(JsonValue::asJsonObject);
     }
 }
@@ -0,0 +1,411 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static java.util.function.Predicate.not;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * index of all definitions of a schema (and the schemas it references) by their absolute json pointer.
+ *
+ * <p>relative references and references to files are loaded and indexed too, references to other documents (e.g.
+ * https://raw.githubusercontent.com/json-schema-tools/meta-schema/) are kept unresolved.</p>
+ *
+ * <p>a reference into a loaded document must point to an existing schema, otherwise the index can not be created.</p>
+ */
+public final class SchemaReferences {
+
+    private static final Logger LOG = Logger.getLogger(SchemaReferences.class.getName());
+    private static final List<String> DEFINITION_KEYWORDS = List.of("definitions", "$defs");
+    private static final List<String> SCHEMA_MAP_KEYWORDS = List.of("properties", "patternProperties");
+    private final URI rootDocument;
+    private final Map<URI, JsonObject> documents;
+    private final Map<String, JsonObject> definitions;
+    private final List<Reference> references;
+    private final Set<JsonObject> indexed;
+    private final IdentityHashMap<JsonObject, Reference> referencesBySchema;
+
+    /**
+     * loads other documents of the schema.
+     */
+    @FunctionalInterface
+    public interface SchemaLoader {
+        JsonObject load(URI document) throws IOException;
+    }
+
+    /**
+     * indexes only the given schema, all references to other documents are kept unresolved.
+     *
+     * @param schema schema to index
+     * @return index of the schema
+     */
+    public static SchemaReferences of(final JsonObject schema) {
+        try {
+            return of(URI.create("urn:schema"), schema, document -> null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * indexes the given schema and all documents reachable through relative or file references.
+     *
+     * @param document location of the schema, relative references are resolved against it
+     * @param schema schema to index
+     * @param loader loader for referenced documents
+     * @return index of all documents
+     * @throws IOException if a referenced document can not be loaded
+     * @throws IllegalStateException if a reference points to a not existing schema of a loaded document
+     */
+    public static SchemaReferences of(final URI document, final JsonObject schema, final SchemaLoader loader)
+        throws IOException {
+        LOG.entering(SchemaReferences.class.getName(), "of", document);
+        final SchemaReferences result = new SchemaReferences(withoutFragment(document));
+        final Deque<URI> toLoad = new ArrayDeque<>();
+        result.index(result.rootDocument, schema, toLoad);
+        int indexedReferences = 0;
+        do {
+            while (!toLoad.isEmpty()) {
+                final URI next = toLoad.pop();
+                if (!result.documents.containsKey(next)) {
+                    LOG.log(Level.FINE, () -> String.format("load referenced document %s.", next));
+                    final JsonObject loaded = loader.load(next);
+                    if (loaded == null) {
+                        throw new IOException(String.format("referenced document %s could not be loaded!", next));
+                    }
+                    result.index(next, loaded, toLoad);
+                }
+            }
+            while (indexedReferences < result.references.size()) {
+                result.indexTarget(result.references.get(indexedReferences++), toLoad);
+            }
+        } while (!toLoad.isEmpty());
+        LOG.exiting(SchemaReferences.class.getName(), "of", result);
+        return result;
+    }
+
+    /**
+     * target of a reference in a document which is part of the schema, e.g. to find out which subtrees of a document
+     * are referenced before it is read.
+     *
+     * @param document location of the document the reference is declared in
+     * @param ref the reference
+     * @return location of the target with the json pointer as fragment, empty if the target is in a document which is
+     * not loaded (e.g. a meta schema in the web)
+     */
+    public static Optional<URI> loadableTarget(final URI document, final String ref) {
+        final Optional<URI> result;
+        final URI target = resolveAgainst(withoutFragment(document), ref);
+        if (ref.startsWith("#") || isLoadable(ref, withoutFragment(target))) {
+            result = Optional.of(target);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * document part of the uri in normalized form (file:///a and file:/a are the same document), as used to load
+     * the referenced documents.
+     *
+     * @param uri uri which may contain a fragment
+     * @return uri of the document
+     */
+    public static URI documentOf(final URI uri) {
+        return withoutFragment(uri);
+    }
+
+    private SchemaReferences(final URI rootDocument) {
+        this.rootDocument = Objects.requireNonNull(rootDocument);
+        this.documents = new LinkedHashMap<>();
+        this.definitions = new LinkedHashMap<>();
+        this.references = new ArrayList<>();
+        this.indexed = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.referencesBySchema = new IdentityHashMap<>();
+    }
+
+    /**
+     * all definitions of all indexed documents by their absolute json pointer.
+     *
+     * @return definitions in the order they are declared
+     */
+    public Map<String, JsonObject> definitions() {
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    /**
+     * the schemas which are referenced somewhere, each only once even if referenced many times.
+     *
+     * @return targets of all resolvable references
+     */
+    public Stream<JsonObject> referencedSchemas() {
+        final Set<JsonObject> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        references
+            .stream()
+            .map(ref -> resolve(ref.document(), ref.ref()))
+            .flatMap(Optional::stream)
+            .forEach(result::add);
+        return result.stream();
+    }
+
+    /**
+     * resolves the reference, follows references to references.
+     *
+     * @param ref reference as used in the root document
+     * @return the schema which is referenced or empty if the reference points into a not loaded document
+     * @throws IllegalStateException if the references build a cycle
+     */
+    public Optional<JsonObject> resolve(final String ref) {
+        return resolve(rootDocument, ref);
+    }
+
+    /**
+     * resolves the $ref of an indexed schema against the document the schema is declared in.
+     *
+     * @param schema indexed schema with a $ref
+     * @return the schema which is referenced or empty if the schema is not indexed or the reference points into a not
+     * loaded document
+     * @throws IllegalStateException if the references build a cycle
+     */
+    public Optional<JsonObject> resolveReferenceOf(final JsonObject schema) {
+        return Optional.ofNullable(referencesBySchema.get(schema)).flatMap(ref -> resolve(ref.document(), ref.ref()));
+    }
+
+    private Optional<JsonObject> resolve(final URI document, final String ref) {
+        final Set<URI> visited = new LinkedHashSet<>();
+        URI target = resolveAgainst(document, ref);
+        Optional<JsonObject> result = lookup(document, target);
+        while (result.isPresent() && result.get().containsKey("$ref")) {
+            if (!visited.add(target)) {
+                throw new IllegalStateException(String.format("cyclic $ref found: %s -> %s", visited, target));
+            }
+            final URI next = resolveAgainst(withoutFragment(target), result.get().getString("$ref"));
+            final Optional<JsonObject> nextSchema = lookup(withoutFragment(target), next);
+            if (nextSchema.isEmpty()) {
+                break;
+            }
+            target = next;
+            result = nextSchema;
+        }
+        return result;
+    }
+
+    /**
+     * @param source document which contains the reference, to report where an unresolvable reference is declared
+     * @param target absolute target of the reference
+     */
+    private Optional<JsonObject> lookup(final URI source, final URI target) {
+        final Optional<JsonObject> result;
+        final JsonObject document = documents.get(withoutFragment(target));
+        final String fragment = Objects.requireNonNullElse(target.getFragment(), "");
+        if (document == null) {
+            result = Optional.empty();
+        } else if (definitions.containsKey(pointer(withoutFragment(target), fragment))) {
+            result = Optional.of(definitions.get(pointer(withoutFragment(target), fragment)));
+        } else {
+            if (valueAt(document, fragment) instanceof JsonObject schema) {
+                result = Optional.of(schema);
+            } else {
+                throw new IllegalStateException(String.format("$ref %s of %s can not be resolved!", target, source));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * the value the pointer points to, null if the pointer is invalid or a member on the way does not exist.
+     */
+    private static JsonValue valueAt(final JsonObject document, final String fragment) {
+        JsonValue result;
+        try {
+            result = Json.createPointer(fragment).getValue(document);
+        } catch (JsonException e) {
+            LOG.log(Level.FINE, e, () -> String.format("%s not found.", fragment));
+            result = null;
+        }
+        return result;
+    }
+
+    private void index(final URI document, final JsonObject schema, final Deque<URI> toLoad) {
+        documents.put(document, schema);
+        index(document, "", schema, toLoad);
+    }
+
+    /**
+     * references can point to schemas outside of the indexed keywords (e.g. #/components/schemas/address), their
+     * references must be indexed too.
+     */
+    private void indexTarget(final Reference reference, final Deque<URI> toLoad) {
+        final URI target = resolveAgainst(reference.document(), reference.ref());
+        lookup(reference.document(), target)
+            .filter(not(indexed::contains))
+            .ifPresent(schema ->
+                index(withoutFragment(target), Objects.requireNonNullElse(target.getFragment(), ""), schema, toLoad)
+            );
+    }
+
+    private void index(final URI document, final String path, final JsonObject schema, final Deque<URI> toLoad) {
+        indexed.add(schema);
+        if (schema.containsKey("$ref") && schema.get("$ref").getValueType() == JsonValue.ValueType.STRING) {
+            final String ref = schema.getString("$ref");
+            final Reference reference = new Reference(document, ref);
+            references.add(reference);
+            referencesBySchema.put(schema, reference);
+            final URI target = withoutFragment(resolveAgainst(document, ref));
+            if (!documents.containsKey(target) && isLoadable(ref, target)) {
+                toLoad.add(target);
+            }
+        }
+        for (final String keyword : DEFINITION_KEYWORDS) {
+            subSchemas(schema, keyword)
+                .forEach(e -> {
+                    final String subPath = path + "/" + keyword + "/" + escape(e.getKey());
+                    definitions.put(pointer(document, subPath), e.getValue());
+                    index(document, subPath, e.getValue(), toLoad);
+                });
+        }
+        for (final String keyword : SCHEMA_MAP_KEYWORDS) {
+            subSchemas(schema, keyword)
+                .forEach(e -> index(document, path + "/" + keyword + "/" + escape(e.getKey()), e.getValue(), toLoad));
+        }
+        if (schema.get("items") instanceof JsonObject items) {
+            index(document, path + "/items", items, toLoad);
+        }
+        if (schema.containsKey("oneOf") && schema.get("oneOf").getValueType() == JsonValue.ValueType.ARRAY) {
+            final List<JsonValue> oneOf = schema.getJsonArray("oneOf");
+            for (int i = 0; i < oneOf.size(); i++) {
+                if (oneOf.get(i) instanceof JsonObject alternative) {
+                    index(document, path + "/oneOf/" + i, alternative, toLoad);
+                }
+            }
+        }
+    }
+
+    private static Stream<Map.Entry<String, JsonObject>> subSchemas(final JsonObject schema, final String keyword) {
+        final Stream<Map.Entry<String, JsonObject>> result;
+        if (schema.get(keyword) instanceof JsonObject subSchemas) {
+            result =
+                subSchemas
+                    .entrySet()
+                    .stream()
+                    .filter(e -> e.getValue().getValueType() == JsonValue.ValueType.OBJECT)
+                    .map(e -> Map.entry(e.getKey(), e.getValue().asJsonObject()));
+        } else {
+            result = Stream.empty();
+        }
+        return result;
+    }
+
+    /**
+     * relative references are part of the same schema, from absolute references only files are loaded. all other
+     * absolute references (mostly meta schemas in the web) are used by name only.
+     */
+    private static boolean isLoadable(final String ref, final URI target) {
+        return (
+            target.isAbsolute() &&
+            !target.isOpaque() &&
+            (!URI.create(ref).isAbsolute() || Objects.equals(target.getScheme(), "file"))
+        );
+    }
+
+    private static URI resolveAgainst(final URI document, final String ref) {
+        final URI result;
+        if (ref.startsWith("#")) {
+            try {
+                result = new URI(document.getScheme(), document.getSchemeSpecificPart(), ref.substring(1));
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(e);
+            }
+        } else {
+            result = document.resolve(ref);
+        }
+        return result;
+    }
+
+    private static String pointer(final URI document, final String path) {
+        return document + "#" + path;
+    }
+
+    private static String escape(final String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * document part of the uri in normalized form (file:///a and file:/a are the same document).
+     */
+    private static URI withoutFragment(final URI uri) {
+        try {
+            final URI result;
+            if (uri.isOpaque()) {
+                result = new URI(uri.getScheme(), uri.getSchemeSpecificPart(), null);
+            } else {
+                result = new URI(uri.getScheme(), uri.getAuthority(), uri.getPath(), uri.getQuery(), null).normalize();
+            }
+            return result;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static final class Reference {
+
+        private final URI document;
+        private final String ref;
+
+        private Reference(final URI document, final String ref) {
+            this.document = document;
+            this.ref = ref;
+        }
+
+        URI document() {
+            return document;
+        }
+
+        String ref() {
+            return ref;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.stringContainsInOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.IncrementalJavaClassOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CodeGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_generate_same_classes_in_parallel_as_sequential() throws Exception {
+        final Map<String, String> sequential = generateWithThreads(tempDir.resolve("sequential"), 1);
+
+        assertThat(sequential, is(not(anEmptyMap())));
+        assertThat(generateWithThreads(tempDir.resolve("parallel"), 4), is(sequential));
+    }
+
+    @Test
+    void should_generate_shared_alternatives_only_once() throws Exception {
+        final IncrementalJavaClassOutput output = new IncrementalJavaClassOutput(tempDir);
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(output)
+        )
+            .generateModel();
+
+        assertThat(output.unchanged(), is(0));
+        assertThat(Files.isRegularFile(tempDir.resolve("io/github/JsonSchemaOrReference.java")), is(true));
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(output.written(), is((int) files.filter(Files::isRegularFile).count()));
+        }
+    }
+
+    @Test
+    void should_generate_json_writable_interface_only_with_json_generator_writers() throws Exception {
+        final IncrementalJavaClassOutput output = new IncrementalJavaClassOutput(tempDir);
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(output, Set.of(TemplateOption.JSON_GENERATOR_WRITER))
+        )
+            .generateModel();
+
+        assertThat(Files.isRegularFile(tempDir.resolve("io/github/JsonWritable.java")), is(true));
+        assertThat(
+            generateWithThreads(tempDir.resolve("without"), 1).containsKey("io/github/JsonWritable.java"),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_name_types_of_file_references_after_the_referenced_schema() throws Exception {
+        final Path schemas = Files.createDirectories(tempDir.resolve("schemas"));
+        Files.writeString(
+            schemas.resolve("common.json"),
+            """
+            { "title": "address", "type": "object", "properties": { "street": { "type": "string" } } }
+            """
+        );
+        Files.writeString(
+            schemas.resolve("schema.json"),
+            """
+            {
+              "title": "person",
+              "type": "object",
+              "properties": {
+                "home": { "$ref": "common.json" }
+              }
+            }
+            """
+        );
+        final Path srcDir = tempDir.resolve("src");
+        new CodeGenerator(
+            new ModelCreator(
+                new JsonSchemaProvider(schemas.resolve("schema.json").toUri().toURL()),
+                new JsonTypeToJavaTypeMapping()
+            ),
+            "io.github",
+            new Templates(new IncrementalJavaClassOutput(srcDir))
+        )
+            .generateModel();
+
+        assertThat(Files.isRegularFile(srcDir.resolve("io/github/Address.java")), is(true));
+        assertThat(Files.readString(srcDir.resolve("io/github/Person.java")), containsString("Address home"));
+    }
+
+    @Test
+    void should_keep_subtrees_of_referenced_documents_which_are_referenced_from_other_documents() throws Exception {
+        final Path schemas = tempDir.resolve("schemas");
+        Files.createDirectories(schemas);
+        Files.writeString(
+            schemas.resolve("common.json"),
+            """
+            {
+              "components": {
+                "schemas": {
+                  "Address": {
+                    "title": "address",
+                    "type": "object",
+                    "properties": { "street": { "$ref": "#/components/schemas/Street" } }
+                  },
+                  "Street": { "title": "street", "type": "object" }
+                }
+              }
+            }
+            """
+        );
+        Files.writeString(
+            schemas.resolve("main.json"),
+            """
+            {
+              "title": "person",
+              "type": "object",
+              "properties": {
+                "home": { "$ref": "common.json#/components/schemas/Address" }
+              }
+            }
+            """
+        );
+        final Path srcDir = tempDir.resolve("src");
+        new CodeGenerator(
+            new ModelCreator(
+                new JsonSchemaProvider(schemas.resolve("main.json").toUri().toURL()),
+                new JsonTypeToJavaTypeMapping()
+            ),
+            "io.github",
+            new Templates(new IncrementalJavaClassOutput(srcDir))
+        )
+            .generateModel();
+
+        assertThat(Files.readString(srcDir.resolve("io/github/Person.java")), containsString("Address home"));
+        assertThat(Files.readString(srcDir.resolve("io/github/Address.java")), containsString("Street street"));
+        assertThat(Files.isRegularFile(srcDir.resolve("io/github/Street.java")), is(true));
+    }
+
+    @Test
+    void should_reject_builders_if_a_type_clashes_with_the_nested_builder() throws Exception {
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            {
+              "title": "order",
+              "type": "object",
+              "properties": {
+                "builder": { "title": "builder", "type": "object" }
+              }
+            }
+            """
+        );
+        final CodeGenerator generator = new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(schema.toUri().toURL()), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(new IncrementalJavaClassOutput(tempDir.resolve("src")), Set.of(TemplateOption.BUILDER))
+        );
+
+        final IOException thrown = assertThrows(IOException.class, generator::generateModel);
+
+        assertThat(thrown.getMessage(), containsString("[Builder]"));
+    }
+
+    @Test
+    void should_reject_json_generator_writers_for_properties_which_can_not_be_written() throws Exception {
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            {
+              "title": "measurement",
+              "type": "object",
+              "properties": {
+                "name": { "type": "string" },
+                "value": { "type": "number" },
+                "counts": { "type": "array", "items": { "type": "integer" } },
+                "unit": { "title": "unit", "type": "object" },
+                "units": { "type": "array", "items": { "title": "unit", "type": "object" } }
+              }
+            }
+            """
+        );
+        final CodeGenerator generator = new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(schema.toUri().toURL()), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(
+                new IncrementalJavaClassOutput(tempDir.resolve("src")),
+                Set.of(TemplateOption.JSON_GENERATOR_WRITER)
+            )
+        );
+
+        final IOException thrown = assertThrows(IOException.class, generator::generateModel);
+
+        assertThat(
+            thrown.getMessage(),
+            containsString("[Measurement.value (Number), Measurement.counts (List<long>)]")
+        );
+    }
+
+    @Test
+    void should_number_key_constants_of_keys_with_the_same_constant() throws Exception {
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            {
+              "title": "link",
+              "type": "object",
+              "properties": {
+                "$ref": { "type": "string" },
+                "ref": { "type": "string" },
+                "fooBar": { "type": "string" },
+                "foo_bar": { "type": "string" }
+              }
+            }
+            """
+        );
+        final Path srcDir = tempDir.resolve("src");
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(schema.toUri().toURL()), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(new IncrementalJavaClassOutput(srcDir))
+        )
+            .generateModel();
+
+        assertThat(
+            Files.readString(srcDir.resolve("io/github/Link.java")),
+            stringContainsInOrder(
+                "KEY_REF = \"$ref\"",
+                "KEY_REF_2 = \"ref\"",
+                "KEY_FOO_BAR = \"fooBar\"",
+                "KEY_FOO_BAR_2 = \"foo_bar\""
+            )
+        );
+    }
+
+    private static Map<String, String> generateWithThreads(final Path srcDir, final int threads) throws IOException {
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(new IncrementalJavaClassOutput(srcDir)),
+            threads
+        )
+            .generateModel();
+        final Map<String, String> result = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(srcDir)) {
+            files
+                .filter(Files::isRegularFile)
+                .forEach(file -> {
+                    try {
+                        result.put(srcDir.relativize(file).toString(), Files.readString(file));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        }
+        return result;
+    }
+}
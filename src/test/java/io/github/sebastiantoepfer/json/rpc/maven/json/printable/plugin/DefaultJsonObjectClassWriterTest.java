@@ -26,9 +26,11 @@ package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
 import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class DefaultJsonObjectClassWriterTest {
@@ -44,26 +46,28 @@ class DefaultJsonObjectClassWriterTest {
                 import io.github.sebastiantoepfer.ddd.common.Media;
                 import io.github.sebastiantoepfer.ddd.common.Printable;
                 import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
-                import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
                 import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
                 import java.net.URL;
                 import java.util.HashMap;
                 import java.util.Map;
                 import java.util.Objects;
-                import java.util.regex.Pattern;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class ExternalDocumentationObject implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("^x-");
+                    public static final String KEY_URL = "url";
+                    public static final String KEY_DESCRIPTION = "description";
+                    private static final String PROPERTY_NAME_PREFIX = "x-";
                     private final Map<String, Printable> additionalValues;
+                    private final String[] additionalNames;
+                    private final Printable[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public ExternalDocumentationObject(final URL url) {
                         this(
                             new CompositePrintable()
-                                .withPrintable(new NamedStringPrintable("url", Objects.requireNonNull(url).toExternalForm()))
+                                .withPrintable(new NamedStringPrintable(KEY_URL, Objects.requireNonNull(url).toExternalForm()))
                             , Map.of()
                         );
                     }
@@ -74,10 +78,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new Printable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public ExternalDocumentationObject withValue(final String name, final Printable value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -86,16 +95,16 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public ExternalDocumentationObject withDescription(final String description) {
-                        return new ExternalDocumentationObject(values.withPrintable(new NamedStringPrintable("description", description)), this.additionalValues);
+                        return new ExternalDocumentationObject(values.withPrintable(new NamedStringPrintable(KEY_DESCRIPTION, description)), this.additionalValues);
                     }
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
                     }
 
                 }
@@ -122,22 +131,30 @@ class DefaultJsonObjectClassWriterTest {
                 import java.util.List;
                 import java.util.Map;
                 import java.util.Objects;
-                import java.util.regex.Pattern;
+                import java.util.Optional;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class OpenrpcDocument implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("^x-");
+                    public static final String KEY_OPENRPC = "openrpc";
+                    public static final String KEY_INFO = "info";
+                    public static final String KEY_METHODS = "methods";
+                    public static final String KEY_EXTERNAL_DOCS = "externalDocs";
+                    public static final String KEY_SERVERS = "servers";
+                    public static final String KEY_COMPONENTS = "components";
+                    private static final String PROPERTY_NAME_PREFIX = "x-";
                     private final Map<String, Printable> additionalValues;
+                    private final String[] additionalNames;
+                    private final Printable[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public OpenrpcDocument(final Openrpc openrpc, final InfoObject info, final List<MethodOrReference> methods) {
                         this(
                             new CompositePrintable()
-                                .withPrintable(new NamedStringPrintable("openrpc", Objects.requireNonNull(openrpc).toString()))
-                                .withPrintable(new NamedPrintable("info", Objects.requireNonNull(info)))
-                                .withPrintable(new NamedListPrintable("methods", Objects.requireNonNull(methods)))
+                                .withPrintable(new NamedStringPrintable(KEY_OPENRPC, Objects.requireNonNull(openrpc).toString()))
+                                .withPrintable(new NamedPrintable(KEY_INFO, Objects.requireNonNull(info)))
+                                .withPrintable(new NamedListPrintable(KEY_METHODS, Objects.requireNonNull(methods)))
                             , Map.of()
                         );
                     }
@@ -148,10 +165,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new Printable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public OpenrpcDocument withValue(final String name, final Printable value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -160,24 +182,24 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public OpenrpcDocument withExternalDocs(final ExternalDocumentationObject externalDocs) {
-                        return new OpenrpcDocument(values.withPrintable(new NamedPrintable("externalDocs", externalDocs)), this.additionalValues);
+                        return new OpenrpcDocument(values.withPrintable(new NamedPrintable(KEY_EXTERNAL_DOCS, externalDocs)), this.additionalValues);
                     }
 
                     public OpenrpcDocument withServers(final List<ServerObject> servers) {
-                        return new OpenrpcDocument(values.withPrintable(new NamedListPrintable("servers", servers)), this.additionalValues);
+                        return new OpenrpcDocument(values.withPrintable(new NamedListPrintable(KEY_SERVERS, servers)), this.additionalValues);
                     }
 
                     public OpenrpcDocument withComponents(final Components components) {
-                        return new OpenrpcDocument(values.withPrintable(new NamedPrintable("components", components)), this.additionalValues);
+                        return new OpenrpcDocument(values.withPrintable(new NamedPrintable(KEY_COMPONENTS, components)), this.additionalValues);
                     }
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
                     }
 
                     public enum Openrpc {
@@ -219,6 +241,56 @@ class DefaultJsonObjectClassWriterTest {
                             return value;
                         }
 
+                        public static Openrpc fromValue(final String value) {
+                            final Openrpc result = lookup(value);
+                            if (result == null) {
+                                throw new IllegalArgumentException(String.format("unknown value %s!", value));
+                            }
+                            return result;
+                        }
+
+                        public static Optional<Openrpc> findByValue(final String value) {
+                            return Optional.ofNullable(lookup(value));
+                        }
+
+                        private static Openrpc lookup(final String value) {
+                            final Openrpc result;
+                            if (value == null) {
+                                result = null;
+                            } else {
+                                result = switch (value) {
+                                    case "1.3.2" -> Openrpc_132;
+                                    case "1.3.1" -> Openrpc_131;
+                                    case "1.3.0" -> Openrpc_130;
+                                    case "1.2.6" -> Openrpc_126;
+                                    case "1.2.5" -> Openrpc_125;
+                                    case "1.2.4" -> Openrpc_124;
+                                    case "1.2.3" -> Openrpc_123;
+                                    case "1.2.2" -> Openrpc_122;
+                                    case "1.2.1" -> Openrpc_121;
+                                    case "1.2.0" -> Openrpc_120;
+                                    case "1.1.12" -> Openrpc_1112;
+                                    case "1.1.11" -> Openrpc_1111;
+                                    case "1.1.10" -> Openrpc_1110;
+                                    case "1.1.9" -> Openrpc_119;
+                                    case "1.1.8" -> Openrpc_118;
+                                    case "1.1.7" -> Openrpc_117;
+                                    case "1.1.6" -> Openrpc_116;
+                                    case "1.1.5" -> Openrpc_115;
+                                    case "1.1.4" -> Openrpc_114;
+                                    case "1.1.3" -> Openrpc_113;
+                                    case "1.1.2" -> Openrpc_112;
+                                    case "1.1.1" -> Openrpc_111;
+                                    case "1.1.0" -> Openrpc_110;
+                                    case "1.0.0" -> Openrpc_100;
+                                    case "1.0.0-rc1" -> Openrpc_100rc1;
+                                    case "1.0.0-rc0" -> Openrpc_100rc0;
+                                    default -> null;
+                                };
+                            }
+                            return result;
+                        }
+
                     }
                 }
                 """
@@ -237,19 +309,22 @@ class DefaultJsonObjectClassWriterTest {
                 import io.github.sebastiantoepfer.ddd.common.Media;
                 import io.github.sebastiantoepfer.ddd.common.Printable;
                 import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
-                import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
                 import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
                 import java.util.HashMap;
                 import java.util.Map;
                 import java.util.Objects;
-                import java.util.regex.Pattern;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class ContactObject implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("^x-");
+                    public static final String KEY_NAME = "name";
+                    public static final String KEY_EMAIL = "email";
+                    public static final String KEY_URL = "url";
+                    private static final String PROPERTY_NAME_PREFIX = "x-";
                     private final Map<String, Printable> additionalValues;
+                    private final String[] additionalNames;
+                    private final Printable[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public ContactObject() {
@@ -265,10 +340,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new Printable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public ContactObject withValue(final String name, final Printable value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -277,24 +357,24 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public ContactObject withName(final String name) {
-                        return new ContactObject(values.withPrintable(new NamedStringPrintable("name", name)), this.additionalValues);
+                        return new ContactObject(values.withPrintable(new NamedStringPrintable(KEY_NAME, name)), this.additionalValues);
                     }
 
                     public ContactObject withEmail(final String email) {
-                        return new ContactObject(values.withPrintable(new NamedStringPrintable("email", email)), this.additionalValues);
+                        return new ContactObject(values.withPrintable(new NamedStringPrintable(KEY_EMAIL, email)), this.additionalValues);
                     }
 
                     public ContactObject withUrl(final String url) {
-                        return new ContactObject(values.withPrintable(new NamedStringPrintable("url", url)), this.additionalValues);
+                        return new ContactObject(values.withPrintable(new NamedStringPrintable(KEY_URL, url)), this.additionalValues);
                     }
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
                     }
 
                 }
@@ -323,13 +403,16 @@ class DefaultJsonObjectClassWriterTest {
                 @Generated("jsongen")
                 public final class ErrorObject implements Printable {
 
+                    public static final String KEY_CODE = "code";
+                    public static final String KEY_MESSAGE = "message";
+                    public static final String KEY_DATA = "data";
                     private final CompositePrintable values;
 
                     public ErrorObject(final long code, final String message) {
                         this(
                             new CompositePrintable()
-                                .withPrintable(new NamedNumberPrintable("code", code))
-                                .withPrintable(new NamedStringPrintable("message", Objects.requireNonNull(message)))
+                                .withPrintable(new NamedNumberPrintable(KEY_CODE, code))
+                                .withPrintable(new NamedStringPrintable(KEY_MESSAGE, Objects.requireNonNull(message)))
                         );
                     }
 
@@ -338,7 +421,7 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public ErrorObject withData(final Printable data) {
-                        return new ErrorObject(values.withPrintable(new NamedPrintable("data", data)));
+                        return new ErrorObject(values.withPrintable(new NamedPrintable(KEY_DATA, data)));
                     }
 
                     @Override
@@ -370,6 +453,13 @@ class DefaultJsonObjectClassWriterTest {
                 @Generated("jsongen")
                 public final class Components implements Printable {
 
+                    public static final String KEY_SCHEMAS = "schemas";
+                    public static final String KEY_LINKS = "links";
+                    public static final String KEY_ERRORS = "errors";
+                    public static final String KEY_EXAMPLES = "examples";
+                    public static final String KEY_EXAMPLE_PAIRINGS = "examplePairings";
+                    public static final String KEY_CONTENT_DESCRIPTORS = "contentDescriptors";
+                    public static final String KEY_TAGS = "tags";
                     private final CompositePrintable values;
 
                     public Components() {
@@ -383,31 +473,31 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public Components withSchemas(final SchemaComponents schemas) {
-                        return new Components(values.withPrintable(new NamedPrintable("schemas", schemas)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_SCHEMAS, schemas)));
                     }
 
                     public Components withLinks(final LinkComponents links) {
-                        return new Components(values.withPrintable(new NamedPrintable("links", links)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_LINKS, links)));
                     }
 
                     public Components withErrors(final ErrorComponents errors) {
-                        return new Components(values.withPrintable(new NamedPrintable("errors", errors)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_ERRORS, errors)));
                     }
 
                     public Components withExamples(final ExampleComponents examples) {
-                        return new Components(values.withPrintable(new NamedPrintable("examples", examples)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_EXAMPLES, examples)));
                     }
 
                     public Components withExamplePairings(final ExamplePairingComponents examplePairings) {
-                        return new Components(values.withPrintable(new NamedPrintable("examplePairings", examplePairings)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_EXAMPLE_PAIRINGS, examplePairings)));
                     }
 
                     public Components withContentDescriptors(final ContentDescriptorComponents contentDescriptors) {
-                        return new Components(values.withPrintable(new NamedPrintable("contentDescriptors", contentDescriptors)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_CONTENT_DESCRIPTORS, contentDescriptors)));
                     }
 
                     public Components withTags(final TagComponents tags) {
-                        return new Components(values.withPrintable(new NamedPrintable("tags", tags)));
+                        return new Components(values.withPrintable(new NamedPrintable(KEY_TAGS, tags)));
                     }
 
                     @Override
@@ -432,18 +522,20 @@ class DefaultJsonObjectClassWriterTest {
                 import io.github.sebastiantoepfer.ddd.common.Media;
                 import io.github.sebastiantoepfer.ddd.common.Printable;
                 import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
-                import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
                 import java.util.HashMap;
                 import java.util.Map;
                 import java.util.Objects;
+                import java.util.function.Predicate;
                 import java.util.regex.Pattern;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class SchemaComponents implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("[0-z]+");
+                    private static final Predicate<String> PROPERTY_NAME_PATTERN = Pattern.compile("[0-z]+").asPredicate();
                     private final Map<String, JsonSchemaOrReference> additionalValues;
+                    private final String[] additionalNames;
+                    private final JsonSchemaOrReference[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public SchemaComponents() {
@@ -459,10 +551,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new JsonSchemaOrReference[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public SchemaComponents withValue(final String name, final JsonSchemaOrReference value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!PROPERTY_NAME_PATTERN.test(name)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -472,11 +569,11 @@ class DefaultJsonObjectClassWriterTest {
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
                     }
 
                 }
@@ -504,21 +601,36 @@ class DefaultJsonObjectClassWriterTest {
                 import java.util.List;
                 import java.util.Map;
                 import java.util.Objects;
-                import java.util.regex.Pattern;
+                import java.util.Optional;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class MethodObject implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("^x-");
+                    public static final String KEY_NAME = "name";
+                    public static final String KEY_PARAMS = "params";
+                    public static final String KEY_DESCRIPTION = "description";
+                    public static final String KEY_SUMMARY = "summary";
+                    public static final String KEY_SERVERS = "servers";
+                    public static final String KEY_TAGS = "tags";
+                    public static final String KEY_PARAM_STRUCTURE = "paramStructure";
+                    public static final String KEY_RESULT = "result";
+                    public static final String KEY_ERRORS = "errors";
+                    public static final String KEY_LINKS = "links";
+                    public static final String KEY_EXAMPLES = "examples";
+                    public static final String KEY_DEPRECATED = "deprecated";
+                    public static final String KEY_EXTERNAL_DOCS = "externalDocs";
+                    private static final String PROPERTY_NAME_PREFIX = "x-";
                     private final Map<String, Printable> additionalValues;
+                    private final String[] additionalNames;
+                    private final Printable[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public MethodObject(final String name, final List<ContentDescriptorOrReference> params) {
                         this(
                             new CompositePrintable()
-                                .withPrintable(new NamedStringPrintable("name", Objects.requireNonNull(name)))
-                                .withPrintable(new NamedListPrintable("params", Objects.requireNonNull(params)))
+                                .withPrintable(new NamedStringPrintable(KEY_NAME, Objects.requireNonNull(name)))
+                                .withPrintable(new NamedListPrintable(KEY_PARAMS, Objects.requireNonNull(params)))
                             , Map.of()
                         );
                     }
@@ -529,10 +641,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new Printable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public MethodObject withValue(final String name, final Printable value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -541,56 +658,56 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public MethodObject withDescription(final String description) {
-                        return new MethodObject(values.withPrintable(new NamedStringPrintable("description", description)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedStringPrintable(KEY_DESCRIPTION, description)), this.additionalValues);
                     }
 
                     public MethodObject withSummary(final String summary) {
-                        return new MethodObject(values.withPrintable(new NamedStringPrintable("summary", summary)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedStringPrintable(KEY_SUMMARY, summary)), this.additionalValues);
                     }
 
                     public MethodObject withServers(final List<ServerObject> servers) {
-                        return new MethodObject(values.withPrintable(new NamedListPrintable("servers", servers)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedListPrintable(KEY_SERVERS, servers)), this.additionalValues);
                     }
 
                     public MethodObject withTags(final List<TagOrReference> tags) {
-                        return new MethodObject(values.withPrintable(new NamedListPrintable("tags", tags)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedListPrintable(KEY_TAGS, tags)), this.additionalValues);
                     }
 
                     public MethodObject withParamStructure(final MethodObjectParamStructure paramStructure) {
-                        return new MethodObject(values.withPrintable(new NamedStringPrintable("paramStructure", paramStructure.toString())), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedStringPrintable(KEY_PARAM_STRUCTURE, paramStructure.toString())), this.additionalValues);
                     }
 
                     public MethodObject withResult(final ContentDescriptorOrReference result) {
-                        return new MethodObject(values.withPrintable(new NamedPrintable("result", result)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedPrintable(KEY_RESULT, result)), this.additionalValues);
                     }
 
                     public MethodObject withErrors(final List<ErrorOrReference> errors) {
-                        return new MethodObject(values.withPrintable(new NamedListPrintable("errors", errors)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedListPrintable(KEY_ERRORS, errors)), this.additionalValues);
                     }
 
                     public MethodObject withLinks(final List<LinkOrReference> links) {
-                        return new MethodObject(values.withPrintable(new NamedListPrintable("links", links)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedListPrintable(KEY_LINKS, links)), this.additionalValues);
                     }
 
                     public MethodObject withExamples(final List<ExamplePairingOrReference> examples) {
-                        return new MethodObject(values.withPrintable(new NamedListPrintable("examples", examples)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedListPrintable(KEY_EXAMPLES, examples)), this.additionalValues);
                     }
 
                     public MethodObject withDeprecated(final boolean deprecated) {
-                        return new MethodObject(values.withPrintable(new NamedBooleanPrintable("deprecated", deprecated)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedBooleanPrintable(KEY_DEPRECATED, deprecated)), this.additionalValues);
                     }
 
                     public MethodObject withExternalDocs(final ExternalDocumentationObject externalDocs) {
-                        return new MethodObject(values.withPrintable(new NamedPrintable("externalDocs", externalDocs)), this.additionalValues);
+                        return new MethodObject(values.withPrintable(new NamedPrintable(KEY_EXTERNAL_DOCS, externalDocs)), this.additionalValues);
                     }
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
                     }
 
                     public enum MethodObjectParamStructure {
@@ -609,6 +726,33 @@ class DefaultJsonObjectClassWriterTest {
                             return value;
                         }
 
+                        public static MethodObjectParamStructure fromValue(final String value) {
+                            final MethodObjectParamStructure result = lookup(value);
+                            if (result == null) {
+                                throw new IllegalArgumentException(String.format("unknown value %s!", value));
+                            }
+                            return result;
+                        }
+
+                        public static Optional<MethodObjectParamStructure> findByValue(final String value) {
+                            return Optional.ofNullable(lookup(value));
+                        }
+
+                        private static MethodObjectParamStructure lookup(final String value) {
+                            final MethodObjectParamStructure result;
+                            if (value == null) {
+                                result = null;
+                            } else {
+                                result = switch (value) {
+                                    case "by-position" -> byposition;
+                                    case "by-name" -> byname;
+                                    case "either" -> either;
+                                    default -> null;
+                                };
+                            }
+                            return result;
+                        }
+
                     }
                 }
                 """
@@ -634,12 +778,14 @@ class DefaultJsonObjectClassWriterTest {
                 @Generated("jsongen")
                 public final class ServerObjectVariable implements Printable {
 
+                    public static final String KEY_DEFAULT = "default";
+                    public static final String KEY_DESCRIPTION = "description";
                     private final CompositePrintable values;
 
                     public ServerObjectVariable(final String defaultValue) {
                         this(
                             new CompositePrintable()
-                                .withPrintable(new NamedStringPrintable("default", Objects.requireNonNull(defaultValue)))
+                                .withPrintable(new NamedStringPrintable(KEY_DEFAULT, Objects.requireNonNull(defaultValue)))
                         );
                     }
 
@@ -648,7 +794,7 @@ class DefaultJsonObjectClassWriterTest {
                     }
 
                     public ServerObjectVariable withDescription(final String description) {
-                        return new ServerObjectVariable(values.withPrintable(new NamedStringPrintable("description", description)));
+                        return new ServerObjectVariable(values.withPrintable(new NamedStringPrintable(KEY_DESCRIPTION, description)));
                     }
 
                     @Override
@@ -673,18 +819,20 @@ class DefaultJsonObjectClassWriterTest {
                 import io.github.sebastiantoepfer.ddd.common.Media;
                 import io.github.sebastiantoepfer.ddd.common.Printable;
                 import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
-                import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
                 import java.util.HashMap;
                 import java.util.Map;
                 import java.util.Objects;
+                import java.util.function.Predicate;
                 import java.util.regex.Pattern;
                 import javax.annotation.processing.Generated;
 
                 @Generated("jsongen")
                 public final class ServerObjectVariables implements Printable {
 
-                    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("[0-z]+");
+                    private static final Predicate<String> PROPERTY_NAME_PATTERN = Pattern.compile("[0-z]+").asPredicate();
                     private final Map<String, ServerObjectVariable> additionalValues;
+                    private final String[] additionalNames;
+                    private final ServerObjectVariable[] additionalPrintables;
                     private final CompositePrintable values;
 
                     public ServerObjectVariables() {
@@ -700,10 +848,15 @@ class DefaultJsonObjectClassWriterTest {
                     ) {
                         this.values = Objects.requireNonNull(values);
                         this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new ServerObjectVariable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
                     }
 
                     public ServerObjectVariables withValue(final String name, final ServerObjectVariable value) {
-                        if (PROPERTY_NAME_PATTERN.asPredicate().negate().test(name)) {
+                        if (!PROPERTY_NAME_PATTERN.test(name)) {
                             throw new IllegalArgumentException("provided name is not valid!");
                         }
                         final var newAdditionalValues = new HashMap(additionalValues);
@@ -713,11 +866,220 @@ class DefaultJsonObjectClassWriterTest {
 
                     @Override
                     public final <T extends Media<T>> T printOn(final T media) {
-                        return additionalValues.entrySet()
-                                .stream()
-                                .map(e -> new NamedPrintable(e.getKey(), e.getValue()))
-                                .reduce(values, CompositePrintable::withPrintable, (l,r) -> null)
-                                .printOn(media);
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
+                    }
+
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void should_generate_javaclass_with_builder() throws Exception {
+        assertThat(
+            generateOpenRPCSpecClassWithName("ExternalDocumentationObject", Set.of(TemplateOption.BUILDER)),
+            is(
+                """
+                package io.github;
+
+                import io.github.sebastiantoepfer.ddd.common.Media;
+                import io.github.sebastiantoepfer.ddd.common.Printable;
+                import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
+                import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+                import java.net.URL;
+                import java.util.ArrayList;
+                import java.util.HashMap;
+                import java.util.List;
+                import java.util.Map;
+                import java.util.Objects;
+                import javax.annotation.processing.Generated;
+
+                @Generated("jsongen")
+                public final class ExternalDocumentationObject implements Printable {
+
+                    public static final String KEY_URL = "url";
+                    public static final String KEY_DESCRIPTION = "description";
+                    private static final String PROPERTY_NAME_PREFIX = "x-";
+                    private final Map<String, Printable> additionalValues;
+                    private final String[] additionalNames;
+                    private final Printable[] additionalPrintables;
+                    private final CompositePrintable values;
+
+                    public ExternalDocumentationObject(final URL url) {
+                        this(
+                            new CompositePrintable()
+                                .withPrintable(new NamedStringPrintable(KEY_URL, Objects.requireNonNull(url).toExternalForm()))
+                            , Map.of()
+                        );
+                    }
+
+                    private ExternalDocumentationObject(
+                        final CompositePrintable values,
+                        final Map<String, Printable> additionalValues
+                    ) {
+                        this.values = Objects.requireNonNull(values);
+                        this.additionalValues = Map.copyOf(additionalValues);
+                        this.additionalNames = this.additionalValues.keySet().toArray(new String[0]);
+                        this.additionalPrintables = new Printable[additionalNames.length];
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            additionalPrintables[i] = this.additionalValues.get(additionalNames[i]);
+                        }
+                    }
+
+                    public ExternalDocumentationObject withValue(final String name, final Printable value) {
+                        if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
+                            throw new IllegalArgumentException("provided name is not valid!");
+                        }
+                        final var newAdditionalValues = new HashMap(additionalValues);
+                        newAdditionalValues.put(name, value);
+                        return new ExternalDocumentationObject(values, newAdditionalValues);
+                    }
+
+                    public ExternalDocumentationObject withDescription(final String description) {
+                        return new ExternalDocumentationObject(values.withPrintable(new NamedStringPrintable(KEY_DESCRIPTION, description)), this.additionalValues);
+                    }
+
+                    @Override
+                    public final <T extends Media<T>> T printOn(final T media) {
+                        T result = values.printOn(media);
+                        for (int i = 0; i < additionalNames.length; i++) {
+                            result = result.withValue(additionalNames[i], additionalPrintables[i]);
+                        }
+                        return result;
+                    }
+
+                    public static Builder builder(final URL url) {
+                        return new Builder(url);
+                    }
+
+                    public static final class Builder {
+
+                        private final List<Printable> values;
+                        private final Map<String, Printable> additionalValues;
+
+                        private Builder(final URL url) {
+                            this.values = new ArrayList<>();
+                            this.additionalValues = new HashMap<>();
+                            values.add(new NamedStringPrintable(KEY_URL, Objects.requireNonNull(url).toExternalForm()));
+                        }
+
+                        public Builder withValue(final String name, final Printable value) {
+                            if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
+                                throw new IllegalArgumentException("provided name is not valid!");
+                            }
+                            additionalValues.put(name, value);
+                            return this;
+                        }
+
+                        public Builder withDescription(final String description) {
+                            values.add(new NamedStringPrintable(KEY_DESCRIPTION, description));
+                            return this;
+                        }
+
+                        public ExternalDocumentationObject build() {
+                            return new ExternalDocumentationObject(new CompositePrintable().withPrintable(new BuiltValues(values)), additionalValues);
+                        }
+                    }
+
+                    private static final class BuiltValues implements Printable {
+
+                        private final List<Printable> values;
+
+                        private BuiltValues(final List<Printable> values) {
+                            this.values = List.copyOf(values);
+                        }
+
+                        @Override
+                        public <T extends Media<T>> T printOn(final T media) {
+                            T result = media;
+                            for (final Printable value : values) {
+                                result = value.printOn(result);
+                            }
+                            return result;
+                        }
+                    }
+
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void should_generate_javaclass_with_json_generator_writer() throws Exception {
+        assertThat(
+            generateOpenRPCSpecClassWithName("ErrorObject", Set.of(TemplateOption.JSON_GENERATOR_WRITER)),
+            is(
+                """
+                package io.github;
+
+                import io.github.sebastiantoepfer.ddd.common.Media;
+                import io.github.sebastiantoepfer.ddd.common.Printable;
+                import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
+                import io.github.sebastiantoepfer.ddd.printables.core.NamedNumberPrintable;
+                import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
+                import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+                import java.util.Objects;
+                import javax.annotation.processing.Generated;
+                import jakarta.json.stream.JsonGenerator;
+
+                @Generated("jsongen")
+                public final class ErrorObject implements Printable, JsonWritable {
+
+                    public static final String KEY_CODE = "code";
+                    public static final String KEY_MESSAGE = "message";
+                    public static final String KEY_DATA = "data";
+                    private final CompositePrintable values;
+                    private final long code;
+                    private final String message;
+                    private final Printable data;
+
+                    public ErrorObject(final long code, final String message) {
+                        this(
+                            new CompositePrintable()
+                                .withPrintable(new NamedNumberPrintable(KEY_CODE, code))
+                                .withPrintable(new NamedStringPrintable(KEY_MESSAGE, Objects.requireNonNull(message)))
+                            , code
+                            , message
+                            , null
+                        );
+                    }
+
+                    private ErrorObject(
+                        final CompositePrintable values
+                        , final long code
+                        , final String message
+                        , final Printable data
+                    ) {
+                        this.values = Objects.requireNonNull(values);
+                        this.code = code;
+                        this.message = message;
+                        this.data = data;
+                    }
+
+                    public ErrorObject withData(final Printable data) {
+                        return new ErrorObject(values.withPrintable(new NamedPrintable(KEY_DATA, data)), this.code, this.message, data);
+                    }
+
+                    @Override
+                    public final <T extends Media<T>> T printOn(final T media) {
+                        return values.printOn(media);
+                    }
+
+                    @Override
+                    public void writeTo(final JsonGenerator generator) {
+                        generator.writeStartObject();
+                        JsonWritable.write(generator, KEY_CODE, code);
+                        JsonWritable.write(generator, KEY_MESSAGE, message);
+                        if (data != null) {
+                            JsonWritable.write(generator, KEY_DATA, data);
+                        }
+                        generator.writeEnd();
                     }
 
                 }
@@ -727,11 +1089,16 @@ class DefaultJsonObjectClassWriterTest {
     }
 
     private String generateOpenRPCSpecClassWithName(final String clsName) throws IOException {
+        return generateOpenRPCSpecClassWithName(clsName, Set.of());
+    }
+
+    private String generateOpenRPCSpecClassWithName(final String clsName, final Set<TemplateOption> options)
+        throws IOException {
         final StringWriter writer = new StringWriter();
         new CodeGenerator(
             new ModelCreator(new JsonSchemaProvider(), new JsonTypeToJavaTypeMapping()),
             "io.github",
-            new Templates(new FilteredClassOutput(clsName, writer))
+            new Templates(new FilteredClassOutput(clsName, writer), options)
         )
             .generateModel();
         return writer.toString();
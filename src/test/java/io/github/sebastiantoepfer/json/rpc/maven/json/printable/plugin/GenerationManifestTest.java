@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenerationManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_be_up_to_date_if_fingerprint_is_equal_and_all_classes_exists() throws Exception {
+        final Path srcDir = tempDir.resolve("src");
+        Files.createDirectories(srcDir.resolve("io/github"));
+        Files.writeString(srcDir.resolve("io/github/Test.java"), "class Test {}");
+        new GenerationManifest("abc", Map.of("io.github.Test", new ContentHash("class Test {}").toHex()))
+            .store(tempDir.resolve("manifest.properties"));
+
+        assertThat(GenerationManifest.load(tempDir.resolve("manifest.properties")).isUpToDate("abc", srcDir), is(true));
+    }
+
+    @Test
+    void should_not_be_up_to_date_if_a_class_has_been_edited() throws Exception {
+        final Path srcDir = tempDir.resolve("src");
+        Files.createDirectories(srcDir.resolve("io/github"));
+        Files.writeString(srcDir.resolve("io/github/Test.java"), "class Test { int edited; }");
+        new GenerationManifest("abc", Map.of("io.github.Test", new ContentHash("class Test {}").toHex()))
+            .store(tempDir.resolve("manifest.properties"));
+
+        assertThat(
+            GenerationManifest.load(tempDir.resolve("manifest.properties")).isUpToDate("abc", srcDir),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_not_be_up_to_date_if_fingerprint_has_changed() throws Exception {
+        final Path srcDir = tempDir.resolve("src");
+        Files.createDirectories(srcDir.resolve("io/github"));
+        Files.writeString(srcDir.resolve("io/github/Test.java"), "class Test {}");
+        new GenerationManifest("abc", Map.of("io.github.Test", "123")).store(tempDir.resolve("manifest.properties"));
+
+        assertThat(GenerationManifest.load(tempDir.resolve("manifest.properties")).isUpToDate("def", srcDir), is(false));
+    }
+
+    @Test
+    void should_not_be_up_to_date_if_a_class_is_missing() throws Exception {
+        new GenerationManifest("abc", Map.of("io.github.Test", "123")).store(tempDir.resolve("manifest.properties"));
+
+        final GenerationManifest manifest = GenerationManifest.load(tempDir.resolve("manifest.properties"));
+
+        assertThat(manifest.isUpToDate("abc", tempDir.resolve("src")), is(false));
+    }
+
+    @Test
+    void should_check_compiled_classes_by_their_binary_names() throws Exception {
+        final Path classesDir = tempDir.resolve("classes");
+        Files.createDirectories(classesDir.resolve("io/github"));
+        Files.writeString(classesDir.resolve("io/github/Test$Builder.class"), "builder");
+        new GenerationManifest("abc", List.of(), Map.of("io.github.Test$Builder", new ContentHash("builder").toHex()))
+            .store(tempDir.resolve("manifest.properties"));
+        final GenerationManifest manifest = GenerationManifest.load(tempDir.resolve("manifest.properties"));
+
+        assertThat(manifest.isUpToDate("abc", classesDir, "class"), is(true));
+
+        Files.writeString(classesDir.resolve("io/github/Test$Builder.class"), "changed");
+
+        assertThat(manifest.isUpToDate("abc", classesDir, "class"), is(false));
+    }
+
+    @Test
+    void should_not_be_up_to_date_without_manifest() throws Exception {
+        assertThat(GenerationManifest.load(tempDir.resolve("manifest.properties")).isUpToDate("", tempDir), is(false));
+    }
+
+    @Test
+    void should_remember_the_documents_of_the_schema_in_their_order() throws Exception {
+        final List<URI> documents = IntStream
+            .range(0, 12)
+            .mapToObj(i -> URI.create(String.format("file:/schemas/document%d.json", i)))
+            .toList();
+        new GenerationManifest("abc", documents, Map.of("io.github.Test", "123"))
+            .store(tempDir.resolve("manifest.properties"));
+
+        assertThat(GenerationManifest.load(tempDir.resolve("manifest.properties")).documents(), is(documents));
+    }
+
+    @Test
+    void should_delete_classes_which_are_no_longer_generated() throws Exception {
+        final Path srcDir = tempDir.resolve("src");
+        Files.createDirectories(srcDir.resolve("io/github"));
+        Files.writeString(srcDir.resolve("io/github/Old.java"), "class Old {}");
+        Files.writeString(srcDir.resolve("io/github/Test.java"), "class Test {}");
+
+        new GenerationManifest("abc", Map.of("io.github.Test", "123", "io.github.Old", "456"))
+            .deleteClassesNotIn(new GenerationManifest("def", Map.of("io.github.Test", "789")), srcDir);
+
+        assertThat(Files.exists(srcDir.resolve("io/github/Old.java")), is(false));
+        assertThat(Files.exists(srcDir.resolve("io/github/Test.java")), is(true));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOutput;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenerationProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_record_phases_and_return_result_of_measured_action() throws Exception {
+        final GenerationProfile profile = new GenerationProfile("io.github");
+
+        assertThat(profile.measure(GenerationProfile.READ_SCHEMA, () -> "fingerprint"), is("fingerprint"));
+        assertThat(profile.toJson().getJsonObject("phasesMillis"), hasKey(GenerationProfile.READ_SCHEMA));
+    }
+
+    @Test
+    void should_record_only_classes_which_are_really_written() throws Exception {
+        final GenerationProfile profile = new GenerationProfile("io.github", true);
+        final StringWriter target = new StringWriter();
+        final TemplateOutput output = profile.measuring((packageName, className) -> target);
+
+        try (Writer writer = output.createWriterFor("io.github", "Test")) {
+            writer.write("class Test { String s = \"ä\"; }");
+        }
+        try (Writer writer = output.createWriterFor("io.github", "Unchanged")) {
+            writer.write("class Unchanged {}");
+        }
+        profile.classGenerated("Test", 1_000L);
+        profile.classGenerated("Unchanged", 1_000L);
+        profile.classesWritten(Map.of("io.github.Test", 31));
+
+        assertThat(target.toString(), is("class Test { String s = \"ä\"; }class Unchanged {}"));
+        final JsonObject json = profile.toJson();
+        assertThat(json.getInt("classesGenerated"), is(2));
+        assertThat(json.getInt("classesWritten"), is(1));
+        assertThat(json.getInt("bytesWritten"), is(31));
+        assertThat(json.getJsonArray("classes").getJsonObject(0).getString("name"), is("Test"));
+        assertThat(json.getJsonArray("classes").getJsonObject(0).getBoolean("written"), is(true));
+        assertThat(json.getJsonArray("classes").getJsonObject(1).getBoolean("written"), is(false));
+    }
+
+    @Test
+    void should_not_wrap_output_if_not_measuring() {
+        final TemplateOutput output = (packageName, className) -> new StringWriter();
+
+        assertThat(new GenerationProfile("io.github").measuring(output), is(sameInstance(output)));
+    }
+
+    @Test
+    void should_summarize_up_to_date_generation() throws Exception {
+        final GenerationProfile profile = new GenerationProfile("io.github");
+        profile.measure(GenerationProfile.READ_SCHEMA, () -> null);
+        profile.upToDate();
+
+        assertThat(profile.summary(), containsString("io.github: up to date"));
+    }
+
+    @Test
+    void should_write_report_with_max_model_size() throws Exception {
+        final GenerationProfile first = new GenerationProfile("io.github.first");
+        first.modelSize(3, 10);
+        final GenerationProfile second = new GenerationProfile("io.github.second");
+        second.modelSize(7, 20);
+        final Path report = tempDir.resolve("target/profile.json");
+
+        GenerationProfile.writeReport(report, List.of(first, second));
+
+        try (JsonReader reader = Json.createReader(Files.newBufferedReader(report))) {
+            final JsonObject json = reader.readObject();
+            assertThat(json.getInt("maxModelClasses"), is(7));
+            assertThat(json.getJsonArray("schemaSets").getJsonObject(1).getString("packageName"), is("io.github.second"));
+            assertThat(json.getJsonArray("schemaSets").getJsonObject(1).getInt("modelProperties"), is(20));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.ddd.common.Printable;
+import io.github.sebastiantoepfer.ddd.media.core.BaseMedia;
+import io.github.sebastiantoepfer.ddd.media.json.JsonObjectMedia;
+import io.github.sebastiantoepfer.ddd.printables.core.CompositePrintable;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.GeneratedSourcesCompiler;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.SourceArchiveOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.TemplateOption;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * the json written by writeTo must be the same as the json printed by printOn, only the order of the members can be
+ * different (writeTo follows the schema, printOn the order of the withXxx calls).
+ */
+class JsonGeneratorWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_write_same_json_as_printed_on_json_object_media() throws Exception {
+        final SourceArchiveOutput sources = new SourceArchiveOutput();
+        new CodeGenerator(
+            new ModelCreator(new JsonSchemaProvider(), new JsonTypeToJavaTypeMapping()),
+            "io.github",
+            new Templates(sources, Set.of(TemplateOption.JSON_GENERATOR_WRITER))
+        )
+            .generateModel();
+        assertThat(
+            new GeneratedSourcesCompiler(classpath(), null).compile(sources.sources(), tempDir),
+            is(anEmptyMap())
+        );
+
+        try (
+            URLClassLoader classes = new URLClassLoader(
+                new URL[] { tempDir.toUri().toURL() },
+                JsonGeneratorWriterTest.class.getClassLoader()
+            )
+        ) {
+            final Class<?> cls = classes.loadClass("io.github.ExternalDocumentationObject");
+            Object documentation = cls.getConstructor(URL.class).newInstance(new URI("https://open-rpc.org").toURL());
+            documentation =
+                cls
+                    .getMethod("withValue", String.class, Printable.class)
+                    .invoke(
+                        documentation,
+                        "x-origin",
+                        new CompositePrintable().withPrintable(new NamedStringPrintable("name", "spec"))
+                    );
+            documentation = cls.getMethod("withDescription", String.class).invoke(documentation, "the specification");
+
+            assertThat(written(documentation), is(((Printable) documentation).printOn(new JsonObjectMedia())));
+        }
+    }
+
+    private static JsonObject written(final Object writable) throws ReflectiveOperationException {
+        final StringWriter json = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(json)) {
+            writable.getClass().getMethod("writeTo", JsonGenerator.class).invoke(writable, generator);
+        }
+        try (JsonReader reader = Json.createReader(new StringReader(json.toString()))) {
+            return reader.readObject();
+        }
+    }
+
+    private static List<Path> classpath() {
+        return Stream
+            .of(
+                Printable.class,
+                CompositePrintable.class,
+                BaseMedia.class,
+                JsonObjectMedia.class,
+                JsonGenerator.class,
+                JsonSchema.class
+            )
+            .map(cls -> {
+                try {
+                    return Path.of(cls.getProtectionDomain().getCodeSource().getLocation().toURI());
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException(e);
+                }
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ModelCreatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_change_fingerprint_if_a_referenced_document_changes() throws Exception {
+        Files.writeString(
+            tempDir.resolve("schema.json"),
+            """
+            { "title": "person", "type": "object", "properties": { "home": { "$ref": "common.json" } } }
+            """
+        );
+        Files.writeString(tempDir.resolve("common.json"), "{ \"title\": \"address\", \"type\": \"object\" }");
+        final String fingerprint = schemaFingerprint();
+
+        Files.writeString(tempDir.resolve("common.json"), "{ \"title\": \"location\", \"type\": \"object\" }");
+
+        assertThat(schemaFingerprint(), is(not(fingerprint)));
+    }
+
+    @Test
+    void should_fingerprint_the_documents_of_the_last_generation_without_parsing_them() throws Exception {
+        Files.writeString(
+            tempDir.resolve("schema.json"),
+            """
+            { "title": "person", "type": "object", "properties": { "home": { "$ref": "common.json" } } }
+            """
+        );
+        Files.writeString(tempDir.resolve("common.json"), "{ \"title\": \"address\", \"type\": \"object\" }");
+        final ModelCreator lastGeneration = modelCreator();
+        final List<URI> documents = lastGeneration.documents();
+
+        assertThat(documents, contains(tempDir.resolve("schema.json").toUri(), tempDir.resolve("common.json").toUri()));
+        assertThat(modelCreator().schemaFingerprint(documents), is(lastGeneration.schemaFingerprint()));
+
+        Files.writeString(tempDir.resolve("common.json"), "{ \"title\": ");
+
+        assertThat(modelCreator().schemaFingerprint(documents), is(not(lastGeneration.schemaFingerprint())));
+    }
+
+    private String schemaFingerprint() throws IOException {
+        return modelCreator().schemaFingerprint();
+    }
+
+    private ModelCreator modelCreator() throws IOException {
+        return new ModelCreator(
+            new JsonSchemaProvider(tempDir.resolve("schema.json").toUri().toURL()),
+            new JsonTypeToJavaTypeMapping()
+        );
+    }
+}
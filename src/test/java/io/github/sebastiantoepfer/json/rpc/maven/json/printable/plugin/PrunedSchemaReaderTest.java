@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import java.io.StringReader;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class PrunedSchemaReaderTest {
+
+    @Test
+    void should_skip_keywords_which_are_not_needed() {
+        assertThat(
+            read(
+                """
+                {
+                  "title": "person",
+                  "description": "a person",
+                  "type": "object",
+                  "examples": [{ "name": "jane" }],
+                  "properties": {
+                    "name": { "type": "string", "default": "john" },
+                    "tags": { "type": "array", "items": { "type": "string", "description": "tag" } }
+                  }
+                }
+                """
+            ),
+            is(
+                Json
+                    .createObjectBuilder()
+                    .add("title", "person")
+                    .add("type", "object")
+                    .add(
+                        "properties",
+                        Json
+                            .createObjectBuilder()
+                            .add("name", Json.createObjectBuilder().add("type", "string"))
+                            .add(
+                                "tags",
+                                Json
+                                    .createObjectBuilder()
+                                    .add("type", "array")
+                                    .add("items", Json.createObjectBuilder().add("type", "string"))
+                            )
+                    )
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void should_keep_subtrees_which_are_referenced() {
+        assertThat(
+            read(
+                """
+                {
+                  "title": "person",
+                  "type": "object",
+                  "properties": {
+                    "home": { "$ref": "#/components/schemas/address" }
+                  },
+                  "components": {
+                    "examples": { "home": { "street": "main street" } },
+                    "schemas": {
+                      "address": { "title": "address", "type": "object", "description": "an address" },
+                      "unused": { "title": "unused", "type": "object" }
+                    }
+                  }
+                }
+                """
+            )
+                .getJsonObject("components"),
+            is(
+                Json
+                    .createObjectBuilder()
+                    .add(
+                        "schemas",
+                        Json
+                            .createObjectBuilder()
+                            .add("address", Json.createObjectBuilder().add("title", "address").add("type", "object"))
+                    )
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void should_keep_every_referenced_subtree_below_a_shared_path() {
+        assertThat(
+            read(
+                """
+                {
+                  "properties": {
+                    "home": { "$ref": "#/x-types/places/address" },
+                    "name": { "$ref": "#/x-types/name" }
+                  },
+                  "x-types": {
+                    "places": { "address": { "type": "object" }, "city": { "type": "string" } },
+                    "name": { "type": "string" },
+                    "age": { "type": "integer" }
+                  }
+                }
+                """
+            )
+                .getJsonObject("x-types"),
+            is(
+                Json
+                    .createObjectBuilder()
+                    .add(
+                        "places",
+                        Json.createObjectBuilder().add("address", Json.createObjectBuilder().add("type", "object"))
+                    )
+                    .add("name", Json.createObjectBuilder().add("type", "string"))
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void should_collect_all_references() {
+        try (
+            JsonParser parser = Json.createParser(
+                new StringReader(
+                    """
+                    {
+                      "properties": {
+                        "$ref": { "$ref": "#/components/schemas/reference" },
+                        "home": { "$ref": "common.json#/definitions/address" },
+                        "work": { "$ref": "#/definitions/address" }
+                      }
+                    }
+                    """
+                )
+            )
+        ) {
+            assertThat(
+                PrunedSchemaReader.references(parser),
+                containsInAnyOrder(
+                    "#/components/schemas/reference",
+                    "common.json#/definitions/address",
+                    "#/definitions/address"
+                )
+            );
+        }
+    }
+
+    @Test
+    void should_fail_if_schema_is_not_an_object() {
+        assertThrows(JsonParsingException.class, () -> read("[]"));
+    }
+
+    private static JsonObject read(final String schema) {
+        final Set<String> references;
+        try (JsonParser parser = Json.createParser(new StringReader(schema))) {
+            references =
+                PrunedSchemaReader
+                    .references(parser)
+                    .stream()
+                    .filter(ref -> ref.startsWith("#"))
+                    .map(ref -> ref.substring(1))
+                    .collect(Collectors.toSet());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader(schema))) {
+            return new PrunedSchemaReader(parser, references).readSchema();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RemoteSchemaCacheTest {
+
+    private static final String SCHEMA = "{\"title\":\"test\"}";
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private AtomicInteger downloads;
+    private AtomicInteger revalidations;
+    private volatile boolean slow;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        downloads = new AtomicInteger();
+        revalidations = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(
+            "/schema.json",
+            exchange -> {
+                if (slow) {
+                    try {
+                        Thread.sleep(2_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (Objects.equals(exchange.getRequestHeaders().getFirst("If-None-Match"), "\"v1\"")) {
+                    revalidations.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    downloads.incrementAndGet();
+                    final byte[] content = SCHEMA.getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                    exchange.sendResponseHeaders(200, content.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(content);
+                    }
+                }
+                exchange.close();
+            }
+        );
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void should_download_schema_only_once_within_time_to_live() throws Exception {
+        final RemoteSchemaCache cache = new RemoteSchemaCache(cacheDir, Duration.ofHours(1), false);
+
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(downloads.get(), is(1));
+        assertThat(revalidations.get(), is(0));
+    }
+
+    @Test
+    void should_revalidate_schema_after_time_to_live() throws Exception {
+        final RemoteSchemaCache cache = new RemoteSchemaCache(cacheDir, Duration.ZERO, false);
+
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(downloads.get(), is(1));
+        assertThat(revalidations.get(), is(1));
+    }
+
+    @Test
+    void should_use_cached_schema_if_offline() throws Exception {
+        read(new RemoteSchemaCache(cacheDir, Duration.ZERO, false));
+
+        assertThat(read(new RemoteSchemaCache(cacheDir, Duration.ZERO, true)), is(SCHEMA));
+        assertThat(downloads.get(), is(1));
+        assertThat(revalidations.get(), is(0));
+    }
+
+    @Test
+    void should_fail_if_offline_and_not_cached() {
+        final RemoteSchemaCache cache = new RemoteSchemaCache(cacheDir, Duration.ZERO, true);
+
+        assertThrows(IOException.class, () -> read(cache));
+        assertThat(downloads.get(), is(0));
+    }
+
+    @Test
+    void should_use_cached_schema_if_server_does_not_answer_in_time() throws Exception {
+        read(new RemoteSchemaCache(cacheDir, Duration.ZERO, false));
+        slow = true;
+
+        assertThat(
+            read(new RemoteSchemaCache(cacheDir, Duration.ZERO, Duration.ofMillis(200), false)),
+            is(SCHEMA)
+        );
+    }
+
+    @Test
+    void should_download_schema_again_if_metadata_is_corrupt() throws Exception {
+        final RemoteSchemaCache cache = new RemoteSchemaCache(cacheDir, Duration.ofHours(1), false);
+        read(cache);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (final Path metadata : files.filter(f -> f.toString().endsWith(".properties")).toList()) {
+                Files.writeString(metadata, "fetched=yesterday\n");
+            }
+        }
+
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(downloads.get(), is(2));
+    }
+
+    @Test
+    void should_download_schema_again_if_metadata_belongs_to_other_content() throws Exception {
+        final RemoteSchemaCache cache = new RemoteSchemaCache(cacheDir, Duration.ofHours(1), false);
+        read(cache);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (final Path content : files.filter(f -> f.toString().endsWith(".json")).toList()) {
+                Files.writeString(content, "{\"title\":\"interrupted\"}");
+            }
+        }
+
+        assertThat(read(cache), is(SCHEMA));
+        assertThat(downloads.get(), is(2));
+        assertThat(revalidations.get(), is(0));
+    }
+
+    private String read(final RemoteSchemaCache cache) throws IOException {
+        try (InputStream in = cache.open(schemaUrl())) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private URL schemaUrl() throws IOException {
+        //the address the server is bound to, localhost may resolve to another address family first
+        final InetSocketAddress address = server.getAddress();
+        try {
+            return new URI(
+                "http",
+                null,
+                address.getAddress().getHostAddress(),
+                address.getPort(),
+                "/schema.json",
+                null,
+                null
+            )
+                .toURL();
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator.SourceArchiveOutput;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonTypeToJavaTypeMapping;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaSetGenerationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_skip_generation_until_a_referenced_document_changes() throws Exception {
+        Files.writeString(
+            tempDir.resolve("schema.json"),
+            """
+            { "title": "person", "type": "object", "properties": { "home": { "$ref": "common.json" } } }
+            """
+        );
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            "{ \"title\": \"address\", \"type\": \"object\", \"properties\": { \"city\": { \"type\": \"string\" } } }"
+        );
+
+        assertThat(generate(), endsWith("2 classes generated, 2 of them written, 0 unchanged."));
+        assertThat(generate(), endsWith("generated sources are up to date."));
+
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            "{ \"title\": \"address\", \"type\": \"object\", \"properties\": { \"town\": { \"type\": \"string\" } } }"
+        );
+
+        assertThat(generate(), endsWith("2 classes generated, 1 of them written, 1 unchanged."));
+    }
+
+    @Test
+    void should_know_if_a_generation_into_the_source_archive_is_unchanged() throws Exception {
+        Files.writeString(
+            tempDir.resolve("schema.json"),
+            """
+            { "title": "person", "type": "object", "properties": { "home": { "$ref": "common.json" } } }
+            """
+        );
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            "{ \"title\": \"address\", \"type\": \"object\", \"properties\": { \"city\": { \"type\": \"string\" } } }"
+        );
+        assertThat(generationIntoSourceArchive().unchangedFingerprint(), is(Optional.empty()));
+
+        final SchemaSetGeneration generation = generationIntoSourceArchive();
+        generation.call();
+
+        assertThat(generationIntoSourceArchive().unchangedFingerprint(), is(Optional.of(generation.fingerprint())));
+
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            "{ \"title\": \"address\", \"type\": \"object\", \"properties\": { \"town\": { \"type\": \"string\" } } }"
+        );
+
+        assertThat(generationIntoSourceArchive().unchangedFingerprint(), is(Optional.empty()));
+    }
+
+    private SchemaSetGeneration generationIntoSourceArchive() throws IOException {
+        return new SchemaSetGeneration(
+            new ModelCreator(
+                new JsonSchemaProvider(tempDir.resolve("schema.json").toUri().toURL()),
+                new JsonTypeToJavaTypeMapping()
+            ),
+            "io.github.test",
+            tempDir.resolve("src"),
+            tempDir.resolve("manifest.properties"),
+            true,
+            "1.0",
+            1,
+            Set.of(),
+            new SourceArchiveOutput(),
+            false
+        );
+    }
+
+    private String generate() throws IOException {
+        return new SchemaSetGeneration(
+            new ModelCreator(
+                new JsonSchemaProvider(tempDir.resolve("schema.json").toUri().toURL()),
+                new JsonTypeToJavaTypeMapping()
+            ),
+            "io.github.test",
+            tempDir.resolve("src"),
+            tempDir.resolve("manifest.properties"),
+            true,
+            "1.0",
+            1,
+            Set.of()
+        )
+            .call();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemplatesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_compile_a_template_only_once() throws Exception {
+        Templates.precompileBundledTemplates();
+
+        assertThat(
+            Templates.compiledTemplate(Templates.OBJECT_CLASS_TEMPLATE),
+            is(sameInstance(Templates.compiledTemplate(Templates.OBJECT_CLASS_TEMPLATE)))
+        );
+    }
+
+    @Test
+    void should_read_a_template_resource_only_once() throws Exception {
+        final Path templateRoot = templateRoot("once", "{{name}}");
+        try (URLClassLoader classLoader = classLoaderOf(templateRoot)) {
+            final Templates.CompiledTemplate first = Templates.compiledTemplate("test.mustache", classLoader);
+            Files.writeString(templateRoot.resolve("templates/test.mustache"), "hello {{name}}");
+
+            assertThat(Templates.compiledTemplate("test.mustache", classLoader), is(sameInstance(first)));
+            assertThat(first.template().execute(Map.of("name", "world")), is("world"));
+        }
+    }
+
+    @Test
+    void should_compile_templates_of_other_resources_separately() throws Exception {
+        try (
+            URLClassLoader oldPlugin = classLoaderOf(templateRoot("old", "{{name}}"));
+            URLClassLoader newPlugin = classLoaderOf(templateRoot("new", "hello {{name}}"))
+        ) {
+            final Templates.CompiledTemplate old = Templates.compiledTemplate("test.mustache", oldPlugin);
+            final Templates.CompiledTemplate changed = Templates.compiledTemplate("test.mustache", newPlugin);
+
+            assertThat(changed.template(), is(not(sameInstance(old.template()))));
+            assertThat(changed.contentHash(), is(not(old.contentHash())));
+            assertThat(changed.template().execute(Map.of("name", "world")), is("hello world"));
+        }
+    }
+
+    @Test
+    void should_fail_for_unknown_templates() {
+        assertThrows(FileNotFoundException.class, () -> Templates.compiledTemplate("unknown.mustache"));
+    }
+
+    private Path templateRoot(final String name, final String template) throws IOException {
+        final Path result = tempDir.resolve(name);
+        Files.createDirectories(result.resolve("templates"));
+        Files.writeString(result.resolve("templates/test.mustache"), template);
+        return result;
+    }
+
+    private static URLClassLoader classLoaderOf(final Path root) throws IOException {
+        return new URLClassLoader(new URL[] { root.toUri().toURL() }, null);
+    }
+}
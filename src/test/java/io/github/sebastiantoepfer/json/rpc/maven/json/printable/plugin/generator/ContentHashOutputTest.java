@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.utils.ContentHash;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentHashOutputTest {
+
+    @TempDir
+    Path srcDir;
+
+    @Test
+    void should_pass_every_class_to_the_delegate_which_restores_edited_classes() throws Exception {
+        final Path javaFile = srcDir.resolve("io/github/Test.java");
+        Files.createDirectories(javaFile.getParent());
+        Files.writeString(javaFile, "class Test { int edited; }");
+        final IncrementalJavaClassOutput javaClassOutput = new IncrementalJavaClassOutput(srcDir);
+        final ContentHashOutput output = new ContentHashOutput(javaClassOutput);
+
+        try (Writer writer = output.createWriterFor("io.github", "Test")) {
+            writer.write("class Test {}");
+        }
+
+        assertThat(Files.readString(javaFile), is("class Test {}"));
+        assertThat(javaClassOutput.written(), is(1));
+        assertThat(output.hashes(), is(Map.of("io.github.Test", new ContentHash("class Test {}").toHex())));
+    }
+}
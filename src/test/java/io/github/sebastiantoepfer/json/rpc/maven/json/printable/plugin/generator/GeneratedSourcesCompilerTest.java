@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeneratedSourcesCompilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_write_only_class_files() throws Exception {
+        final Map<String, List<String>> errors = new GeneratedSourcesCompiler(List.of(), null)
+            .compile(
+                Map.of(
+                    "io.github.Test",
+                    "package io.github; public class Test { Other other; }",
+                    "io.github.Other",
+                    "package io.github; public class Other {}"
+                ),
+                tempDir
+            );
+
+        assertThat(errors, is(anEmptyMap()));
+        assertThat(Files.isRegularFile(tempDir.resolve("io/github/Test.class")), is(true));
+        assertThat(Files.isRegularFile(tempDir.resolve("io/github/Other.class")), is(true));
+        assertThat(Files.exists(tempDir.resolve("io/github/Test.java")), is(false));
+    }
+
+    @Test
+    void should_rewrite_only_changed_class_files() throws Exception {
+        final GeneratedSourcesCompiler compiler = new GeneratedSourcesCompiler(List.of(), "17");
+        compiler.compile(
+            Map.of(
+                "io.github.Test",
+                "package io.github; public class Test {}",
+                "io.github.Other",
+                "package io.github; public class Other {}"
+            ),
+            tempDir
+        );
+        final FileTime lastBuild = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(tempDir.resolve("io/github/Test.class"), lastBuild);
+        Files.setLastModifiedTime(tempDir.resolve("io/github/Other.class"), lastBuild);
+
+        compiler.compile(
+            Map.of(
+                "io.github.Test",
+                "package io.github; public class Test {}",
+                "io.github.Other",
+                "package io.github; public class Other { int changed; }"
+            ),
+            tempDir
+        );
+
+        assertThat(Files.getLastModifiedTime(tempDir.resolve("io/github/Test.class")), is(lastBuild));
+        assertThat(Files.getLastModifiedTime(tempDir.resolve("io/github/Other.class")), is(not(lastBuild)));
+    }
+
+    @Test
+    void should_report_errors_per_class() throws Exception {
+        final Map<String, List<String>> errors = new GeneratedSourcesCompiler(List.of(), "17")
+            .compile(
+                Map.of(
+                    "io.github.Test",
+                    "package io.github; public class Test { Unknown unknown; }",
+                    "io.github.Other",
+                    "package io.github; public class Other {}"
+                ),
+                tempDir
+            );
+
+        assertThat(errors.keySet(), contains("io.github.Test"));
+        assertThat(errors.get("io.github.Test").size(), is(1));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalJavaClassOutputTest {
+
+    @TempDir
+    Path srcDir;
+
+    @Test
+    void should_write_new_class() throws Exception {
+        final IncrementalJavaClassOutput output = new IncrementalJavaClassOutput(srcDir);
+
+        write(output, "class Test {}");
+
+        assertThat(Files.readString(srcDir.resolve("io/github/Test.java")), is("class Test {}"));
+        assertThat(output.written(), is(1));
+        assertThat(output.unchanged(), is(0));
+        assertThat(output.writtenClasses(), is(Map.of("io.github.Test", 13)));
+    }
+
+    @Test
+    void should_not_touch_unchanged_class() throws Exception {
+        final Path javaFile = srcDir.resolve("io/github/Test.java");
+        Files.createDirectories(javaFile.getParent());
+        Files.writeString(javaFile, "class Test {}");
+        final FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(javaFile, lastModified);
+        final IncrementalJavaClassOutput output = new IncrementalJavaClassOutput(srcDir);
+
+        write(output, "class Test {}");
+
+        assertThat(Files.getLastModifiedTime(javaFile), is(lastModified));
+        assertThat(output.written(), is(0));
+        assertThat(output.unchanged(), is(1));
+        assertThat(output.writtenClasses(), is(Map.of()));
+    }
+
+    @Test
+    void should_overwrite_changed_class() throws Exception {
+        final Path javaFile = srcDir.resolve("io/github/Test.java");
+        Files.createDirectories(javaFile.getParent());
+        Files.writeString(javaFile, "class Tset {}");
+        final IncrementalJavaClassOutput output = new IncrementalJavaClassOutput(srcDir);
+
+        write(output, "class Test {}");
+
+        assertThat(Files.readString(javaFile), is("class Test {}"));
+        assertThat(output.written(), is(1));
+        assertThat(output.unchanged(), is(0));
+    }
+
+    private static void write(final TemplateOutput output, final String content) throws Exception {
+        try (Writer writer = output.createWriterFor("io.github", "Test")) {
+            writer.write(content);
+        }
+    }
+}
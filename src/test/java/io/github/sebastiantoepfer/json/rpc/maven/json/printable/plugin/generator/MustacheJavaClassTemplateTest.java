@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.samskivert.mustache.Mustache;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.AdditionalValue;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.EnumProperty;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.JsonObjectClassDefinition;
+import io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model.Property;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class MustacheJavaClassTemplateTest {
+
+    @Test
+    void should_compute_every_value_only_once_per_definition() {
+        final CountingDefinition definition = new CountingDefinition();
+        final Map<String, Object> context = new MustacheJavaClassTemplate.ClassDefinitionWithLambdas(
+            definition,
+            Map.of("builder", true)
+        );
+
+        assertThat(context.get("objectname"), is("Person"));
+        assertThat(context.get("objectname"), is("Person"));
+        assertThat(definition.objectnameCalls, is(1));
+    }
+
+    @Test
+    void should_expose_accessors_lambdas_and_options() {
+        final Map<String, Object> context = new MustacheJavaClassTemplate.ClassDefinitionWithLambdas(
+            new CountingDefinition(),
+            Map.of("builder", true)
+        );
+
+        assertThat(context.keySet(), hasItems("objectname", "properties", "cap1stChar", "builder"));
+        assertThat(context.containsKey("withPackage"), is(false));
+        assertThat(context.get("cap1stChar"), is(instanceOf(Mustache.Lambda.class)));
+        assertThat(context.get("builder"), is(true));
+        assertThat(context.get("unknown"), is(nullValue()));
+        assertThat(context.get("packagename"), is(""));
+    }
+
+    @Test
+    void should_render_a_non_public_definition() {
+        final StringWriter writer = new StringWriter();
+
+        Mustache
+            .compiler()
+            .compile("{{packagename}}:{{#cap1stChar}}{{objectname}}{{/cap1stChar}}:{{#builder}}builder{{/builder}}")
+            .execute(
+                new MustacheJavaClassTemplate.ClassDefinitionWithLambdas(
+                    new CountingDefinition(),
+                    Map.of("builder", true)
+                ),
+                writer
+            );
+
+        assertThat(writer.toString(), is(":Person:builder"));
+    }
+
+    private static final class CountingDefinition implements JsonObjectClassDefinition {
+
+        private int objectnameCalls;
+
+        @Override
+        public List<EnumProperty> enums() {
+            return List.of();
+        }
+
+        @Override
+        public Set<String> imports() {
+            return Set.of();
+        }
+
+        @Override
+        public String objectname() {
+            objectnameCalls++;
+            return "Person";
+        }
+
+        @Override
+        public List<Property> properties() {
+            return List.of();
+        }
+
+        @Override
+        public List<Property> required() {
+            return List.of();
+        }
+
+        @Override
+        public String packagename() {
+            return null;
+        }
+
+        @Override
+        public JsonObjectClassDefinition withPackage(final String packagename) {
+            return this;
+        }
+
+        @Override
+        public JsonObjectClassDefinition withBuilder() {
+            return this;
+        }
+
+        @Override
+        public boolean hasAdditionalValues() {
+            return false;
+        }
+
+        @Override
+        public AdditionalValue additionalValues() {
+            return null;
+        }
+    }
+}
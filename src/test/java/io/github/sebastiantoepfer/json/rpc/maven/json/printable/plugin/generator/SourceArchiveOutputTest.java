@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.Writer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceArchiveOutputTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_keep_generated_classes_in_memory() throws Exception {
+        final SourceArchiveOutput output = new SourceArchiveOutput();
+
+        write(output, "Test", "class Test {}");
+
+        assertThat(output.sources(), is(Map.of("io.github.Test", "class Test {}")));
+        assertThat(Files.exists(tempDir.resolve("io")), is(false));
+    }
+
+    @Test
+    void should_write_all_classes_into_archive() throws Exception {
+        final SourceArchiveOutput output = new SourceArchiveOutput();
+        write(output, "Test", "class Test {}");
+        write(output, "Other", "class Other {}");
+        final Path archive = tempDir.resolve("target/sources.jar");
+
+        output.writeTo(archive);
+
+        try (FileSystem zip = FileSystems.newFileSystem(archive)) {
+            assertThat(Files.readString(zip.getPath("io/github/Test.java")), is("class Test {}"));
+            assertThat(Files.readString(zip.getPath("io/github/Other.java")), is("class Other {}"));
+        }
+    }
+
+    @Test
+    void should_replace_existing_archive() throws Exception {
+        final Path archive = tempDir.resolve("sources.jar");
+        final SourceArchiveOutput first = new SourceArchiveOutput();
+        write(first, "Old", "class Old {}");
+        first.writeTo(archive);
+        final SourceArchiveOutput second = new SourceArchiveOutput();
+        write(second, "Test", "class Test {}");
+
+        second.writeTo(archive);
+
+        try (FileSystem zip = FileSystems.newFileSystem(archive)) {
+            assertThat(Files.exists(zip.getPath("io/github/Old.java")), is(false));
+            assertThat(Files.readString(zip.getPath("io/github/Test.java")), is("class Test {}"));
+        }
+    }
+
+    @Test
+    void should_not_rewrite_unchanged_archive() throws Exception {
+        final Path archive = tempDir.resolve("sources.jar");
+        final SourceArchiveOutput first = new SourceArchiveOutput();
+        write(first, "Test", "class Test {}");
+        assertThat(first.writeTo(archive), is(true));
+        final FileTime written = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(archive, written);
+        final SourceArchiveOutput second = new SourceArchiveOutput();
+        write(second, "Test", "class Test {}");
+
+        assertThat(second.writeTo(archive), is(false));
+        assertThat(Files.getLastModifiedTime(archive), is(written));
+
+        write(second, "Test", "class Test { int changed; }");
+
+        assertThat(second.writeTo(archive), is(true));
+    }
+
+    @Test
+    void should_use_entry_time_for_every_entry() throws Exception {
+        final Path archive = tempDir.resolve("sources.jar");
+        final Instant entryTime = Instant.parse("2024-05-01T10:15:30Z");
+        final SourceArchiveOutput output = new SourceArchiveOutput();
+        write(output, "Test", "class Test {}");
+        write(output, "Other", "class Other {}");
+
+        output.writeTo(archive, entryTime);
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertThat(
+                zip.stream().map(ZipEntry::getTimeLocal).distinct().toList(),
+                is(List.of(LocalDateTime.ofInstant(entryTime, ZoneOffset.UTC)))
+            );
+        }
+    }
+
+    private static void write(final TemplateOutput output, final String className, final String content)
+        throws Exception {
+        try (Writer writer = output.createWriterFor("io.github", className)) {
+            writer.write(content);
+        }
+    }
+}
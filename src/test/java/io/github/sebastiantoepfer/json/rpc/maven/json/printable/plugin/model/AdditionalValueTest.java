@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+class AdditionalValueTest {
+
+    @Test
+    void should_detect_literal_prefix() {
+        final AdditionalValue additionalValue = new AdditionalValue("^x-", "Printable");
+
+        assertThat(additionalValue.hasLiteralPrefix(), is(true));
+        assertThat(additionalValue.literalPrefix(), is("x-"));
+    }
+
+    @Test
+    void should_not_detect_literal_prefix_for_character_classes() {
+        final AdditionalValue additionalValue = new AdditionalValue("[0-z]+", "ServerObjectVariable");
+
+        assertThat(additionalValue.hasLiteralPrefix(), is(false));
+        assertThat(additionalValue.literalPrefix(), is(nullValue()));
+    }
+
+    @Test
+    void should_not_detect_literal_prefix_for_anchored_regex() {
+        assertThat(new AdditionalValue("^x-.+$", "Printable").hasLiteralPrefix(), is(false));
+        assertThat(new AdditionalValue("^x\\-", "Printable").hasLiteralPrefix(), is(false));
+    }
+}
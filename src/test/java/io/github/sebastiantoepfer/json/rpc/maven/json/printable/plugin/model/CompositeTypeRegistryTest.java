@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CompositeTypeRegistryTest {
+
+    @Test
+    void should_combine_the_names_of_all_registries() {
+        final Typeable property = new SimpleTypeable("name", "String", null, null);
+
+        assertThat(
+            new CompositeTypeRegistry()
+                .withRegistry(typeable -> List.of("java.util.List"))
+                .withRegistry(typeable -> List.of("java.net.URL", "java.util.List"))
+                .determineFullQualifiedNameOf(property),
+            containsInAnyOrder("java.util.List", "java.net.URL")
+        );
+    }
+
+    @Test
+    void should_ask_the_registries_only_once_per_typeable() {
+        final AtomicInteger lookups = new AtomicInteger();
+        final TypeRegistry registry = new CompositeTypeRegistry()
+            .withRegistry(typeable -> {
+                lookups.incrementAndGet();
+                return List.of("java.net.URL");
+            });
+        final Typeable property = new SimpleTypeable("homepage", "URL", null, null);
+
+        registry.determineFullQualifiedNameOf(property);
+        registry.determineFullQualifiedNameOf(property);
+
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void should_answer_parallel_lookups_with_the_same_names() throws Exception {
+        final TypeRegistry registry = new CompositeTypeRegistry()
+            .withRegistry(typeable -> List.of(String.format("io.github.%s", typeable.type())));
+        final List<Typeable> properties = IntStream
+            .range(0, 100)
+            .mapToObj(i -> (Typeable) new SimpleTypeable("value", String.format("Type%d", i % 10), null, null))
+            .toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Collection<String>>> names = new ArrayList<>();
+            for (final Typeable property : properties) {
+                names.add(executor.submit(() -> registry.determineFullQualifiedNameOf(property)));
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                assertThat(names.get(i).get(), contains(String.format("io.github.Type%d", i % 10)));
+                assertThat(
+                    registry.determineFullQualifiedNameOf(properties.get(i)),
+                    is(sameInstance(names.get(i).get()))
+                );
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DefaultJsonObjectClassDefinitionTest {
+
+    private static final JsonObject PERSON = Json
+        .createObjectBuilder()
+        .add("title", "person")
+        .add("type", "object")
+        .add(
+            "properties",
+            Json
+                .createObjectBuilder()
+                .add("name", Json.createObjectBuilder().add("type", "string"))
+                .add("age", Json.createObjectBuilder().add("type", "integer"))
+        )
+        .add("required", Json.createArrayBuilder().add("name"))
+        .build();
+
+    @Test
+    void should_compute_the_class_model_only_once() {
+        final List<String> lookups = new ArrayList<>();
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObjectClassDefinition definition = new DefaultJsonObjectClassDefinition(
+            PERSON,
+            property -> {
+                lookups.add(property.name());
+                return mapping.determineFullQualifiedNameOf(property);
+            },
+            mapping
+        );
+
+        final List<Property> properties = definition.properties();
+        definition.required();
+        definition.imports();
+        definition.enums();
+        definition.additionalValues();
+
+        assertThat(definition.properties(), is(sameInstance(properties)));
+        assertThat(definition.imports(), is(sameInstance(definition.imports())));
+        assertThat(lookups, contains("name", "age"));
+    }
+
+    @Test
+    void should_add_the_builder_imports_when_enabled_before_first_use() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObjectClassDefinition definition = new DefaultJsonObjectClassDefinition(PERSON, mapping, mapping)
+            .withBuilder();
+
+        assertThat(definition.imports(), hasItem(ArrayList.class.getName()));
+    }
+
+    @Test
+    void should_add_the_builder_imports_even_if_the_model_was_used_before() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObjectClassDefinition definition = new DefaultJsonObjectClassDefinition(PERSON, mapping, mapping)
+            .withPackage("io.github.test");
+        definition.imports();
+
+        final JsonObjectClassDefinition withBuilder = definition.withBuilder();
+
+        assertThat(withBuilder.imports(), hasItem(ArrayList.class.getName()));
+        assertThat(withBuilder.packagename(), is("io.github.test"));
+        assertThat(definition.imports(), not(hasItem(ArrayList.class.getName())));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+class JsonTypeToJavaTypeMappingTest {
+
+    @Test
+    void should_resolve_a_node_only_once() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObject node = Json.createObjectBuilder().add("type", "integer").build();
+
+        assertThat(mapping.resolveFor(node), is(sameInstance(mapping.resolveFor(node))));
+        assertThat(mapping.resolveFor(node).resolveType(), is("long"));
+    }
+
+    @Test
+    void should_resolve_equal_nodes_of_different_places_separately() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObject node = Json.createObjectBuilder().add("type", "integer").build();
+        final JsonObject equalNode = Json.createObjectBuilder().add("type", "integer").build();
+
+        assertThat(mapping.resolveFor(equalNode), is(not(sameInstance(mapping.resolveFor(node)))));
+    }
+
+    @Test
+    void should_not_share_resolved_nodes_between_generations() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+        final JsonObject schema = Json.createObjectBuilder().add("title", "person").add("type", "object").build();
+        final SchemaReferences references = SchemaReferences.of(schema);
+
+        final JsonTypeToJavaTypeMapping first = mapping.withReferences(references);
+        final JsonTypeToJavaTypeMapping second = mapping.withReferences(references);
+
+        assertThat(first.resolveFor(schema), is(sameInstance(first.resolveFor(schema))));
+        assertThat(first.resolveFor(schema), is(not(sameInstance(second.resolveFor(schema)))));
+        assertThat(first.resolveFor(schema), is(not(sameInstance(mapping.resolveFor(schema)))));
+    }
+
+    @Test
+    void should_determine_full_qualified_names_of_type_and_generic_type() {
+        final JsonTypeToJavaTypeMapping mapping = new JsonTypeToJavaTypeMapping();
+
+        assertThat(
+            mapping.determineFullQualifiedNameOf(new SimpleTypeable("links", "List", "URL", null)),
+            containsInAnyOrder("java.util.List", "java.net.URL")
+        );
+        assertThat(mapping.determineFullQualifiedNameOf(new SimpleTypeable("age", "long", null, null)), is(empty()));
+    }
+
+    @Test
+    void should_name_referenced_objects_after_their_title() {
+        final JsonObject property = Json.createObjectBuilder().add("$ref", "#/definitions/address").build();
+        final JsonObject schema = Json
+            .createObjectBuilder()
+            .add(
+                "definitions",
+                Json
+                    .createObjectBuilder()
+                    .add("address", Json.createObjectBuilder().add("title", "location").add("type", "object"))
+            )
+            .add("properties", Json.createObjectBuilder().add("home", property))
+            .build();
+
+        assertThat(
+            new JsonTypeToJavaTypeMapping()
+                .withReferences(SchemaReferences.of(schema))
+                .resolveFor(schema.getJsonObject("properties").getJsonObject("home"))
+                .resolveType(),
+            is("Location")
+        );
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MethodSignatureTest {
+
+    @Test
+    void should_order_overloaded_methods_by_parameter_types() {
+        assertThat(
+            MethodSignature
+                .of(Appendable.class)
+                .stream()
+                .map(m -> m.parameters().stream().map(p -> p.type().simpleName()).toList())
+                .toList(),
+            contains(
+                contains("char"),
+                contains("CharSequence"),
+                contains("CharSequence", "int", "int")
+            )
+        );
+    }
+
+    @Test
+    void should_read_methods_only_once_per_type() {
+        assertThat(MethodSignature.of(JsonSchema.class), is(sameInstance(MethodSignature.of(JsonSchema.class))));
+    }
+
+    @Test
+    void should_only_import_types_outside_of_java_lang() {
+        final MethodSignature signature = MethodSignature
+            .of(Appendable.class)
+            .stream()
+            .filter(m -> m.parameters().size() == 3)
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(signature.returnType().simpleName(), is("Appendable"));
+        assertThat(signature.typesToImport().toList(), is(List.of()));
+    }
+
+    @Test
+    void should_import_types_of_parameters() {
+        assertThat(
+            MethodSignature
+                .of(JsonSchema.class)
+                .stream()
+                .filter(m -> m.name().equals("applyTo"))
+                .flatMap(MethodSignature::typesToImport)
+                .toList(),
+            contains("jakarta.json.JsonValue")
+        );
+    }
+}
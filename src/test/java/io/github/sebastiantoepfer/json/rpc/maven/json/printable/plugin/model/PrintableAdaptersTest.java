@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.sebastiantoepfer.ddd.printables.core.NamedListPrintable;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedPrintable;
+import io.github.sebastiantoepfer.ddd.printables.core.NamedStringPrintable;
+import org.junit.jupiter.api.Test;
+
+class PrintableAdaptersTest {
+
+    @Test
+    void should_determine_adapter_of_known_types() {
+        final PrintableAdapters adapters = new PrintableAdapters();
+
+        assertThat(adapters.determineAdapterForType("URL"), is(NamedStringPrintable.class.getSimpleName()));
+        assertThat(adapters.determineAdapterForType("List"), is(NamedListPrintable.class.getSimpleName()));
+    }
+
+    @Test
+    void should_use_default_adapter_for_unknown_types() {
+        assertThat(new PrintableAdapters().determineAdapterForType("Person"), is(NamedPrintable.class.getSimpleName()));
+    }
+
+    @Test
+    void should_determine_full_qualified_name_of_adapter() {
+        assertThat(
+            new PrintableAdapters()
+                .determineFullQualifiedNameOf(
+                    new SimpleTypeable("name", "String", null, NamedStringPrintable.class.getSimpleName())
+                ),
+            contains(NamedStringPrintable.class.getCanonicalName())
+        );
+    }
+
+    @Test
+    void should_not_import_anything_without_adapter() {
+        assertThat(
+            new PrintableAdapters().determineFullQualifiedNameOf(new SimpleTypeable("name", "String", null, null)),
+            is(empty())
+        );
+    }
+
+    @Test
+    void should_fail_for_unknown_adapter() {
+        final PrintableAdapters adapters = new PrintableAdapters();
+        final Typeable property = new SimpleTypeable("name", "String", null, "NamedDatePrintable");
+
+        assertThrows(IllegalArgumentException.class, () -> adapters.determineFullQualifiedNameOf(property));
+    }
+}
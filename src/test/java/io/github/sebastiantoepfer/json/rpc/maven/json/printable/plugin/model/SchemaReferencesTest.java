@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.json.rpc.maven.json.printable.plugin.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaReferencesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_resolve_local_reference_through_reference_chain() {
+        final JsonObject address = Json.createObjectBuilder().add("title", "address").add("type", "object").build();
+        final SchemaReferences references = SchemaReferences.of(
+            Json
+                .createObjectBuilder()
+                .add(
+                    "$defs",
+                    Json
+                        .createObjectBuilder()
+                        .add("address", address)
+                        .add("location", Json.createObjectBuilder().add("$ref", "#/$defs/address"))
+                )
+                .build()
+        );
+
+        assertThat(references.resolve("#/$defs/location"), is(Optional.of(address)));
+    }
+
+    @Test
+    void should_keep_remote_references_unresolved() {
+        final SchemaReferences references = SchemaReferences.of(
+            Json.createObjectBuilder().add("$ref", "https://json-schema.org/draft-07/schema").build()
+        );
+
+        assertThat(references.resolve("https://json-schema.org/draft-07/schema"), is(Optional.empty()));
+    }
+
+    @Test
+    void should_fail_if_local_reference_can_not_be_resolved() {
+        final JsonObject schema = Json
+            .createObjectBuilder()
+            .add("properties", Json.createObjectBuilder().add("home", Json.createObjectBuilder().add("$ref", "#/x")))
+            .build();
+
+        assertThrows(IllegalStateException.class, () -> SchemaReferences.of(schema));
+    }
+
+    @Test
+    void should_index_references_of_referenced_schemas_outside_of_definitions() {
+        final JsonObject street = Json.createObjectBuilder().add("title", "street").add("type", "object").build();
+        final SchemaReferences references = SchemaReferences.of(
+            Json
+                .createObjectBuilder()
+                .add("$ref", "#/components/schemas/address")
+                .add(
+                    "components",
+                    Json
+                        .createObjectBuilder()
+                        .add(
+                            "schemas",
+                            Json
+                                .createObjectBuilder()
+                                .add(
+                                    "address",
+                                    Json
+                                        .createObjectBuilder()
+                                        .add("title", "address")
+                                        .add("type", "object")
+                                        .add(
+                                            "properties",
+                                            Json
+                                                .createObjectBuilder()
+                                                .add(
+                                                    "street",
+                                                    Json.createObjectBuilder().add("$ref", "#/components/schemas/street")
+                                                )
+                                        )
+                                )
+                                .add("street", street)
+                        )
+                )
+                .build()
+        );
+
+        assertThat(references.referencedSchemas().toList(), hasItem(street));
+    }
+
+    @Test
+    void should_fail_on_cyclic_references() {
+        final SchemaReferences references = SchemaReferences.of(
+            Json
+                .createObjectBuilder()
+                .add(
+                    "definitions",
+                    Json
+                        .createObjectBuilder()
+                        .add("a", Json.createObjectBuilder().add("$ref", "#/definitions/b"))
+                        .add("b", Json.createObjectBuilder().add("$ref", "#/definitions/a"))
+                )
+                .build()
+        );
+
+        assertThrows(IllegalStateException.class, () -> references.resolve("#/definitions/a"));
+    }
+
+    @Test
+    void should_index_definitions_of_referenced_files_once() throws Exception {
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            """
+            {
+              "definitions": {
+                "address": { "title": "address", "type": "object" }
+              }
+            }
+            """
+        );
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            {
+              "title": "person",
+              "type": "object",
+              "properties": {
+                "home": { "$ref": "common.json#/definitions/address" },
+                "work": { "$ref": "./common.json#/definitions/address" }
+              }
+            }
+            """
+        );
+
+        final SchemaReferences references = SchemaReferences.of(
+            schema.toUri(),
+            read(schema),
+            document -> read(Path.of(document))
+        );
+
+        assertThat(references.definitions().size(), is(1));
+        assertThat(references.definitions(), hasKey(endsWith("common.json#/definitions/address")));
+        assertThat(
+            new SchemaParser(read(schema), references, new CompositeTypeRegistry(), new JsonTypeToJavaTypeMapping())
+                .createModel()
+                .map(JsonObjectClassDefinition::objectname)
+                .toList(),
+            containsInAnyOrder("Person", "Address")
+        );
+    }
+
+    @Test
+    void should_report_unresolvable_references_into_other_documents_with_their_source() throws Exception {
+        Files.writeString(tempDir.resolve("common.json"), "{ \"components\": { \"schemas\": {} } }");
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            {
+              "title": "person",
+              "type": "object",
+              "properties": {
+                "home": { "$ref": "common.json#/components/schemas/address" },
+                "work": { "$ref": "common.json#/x-types/address" }
+              }
+            }
+            """
+        );
+        final JsonObject root = read(schema);
+
+        final IllegalStateException thrown = assertThrows(
+            IllegalStateException.class,
+            () -> SchemaReferences.of(schema.toUri(), root, document -> read(Path.of(document)))
+        );
+
+        assertThat(thrown.getMessage(), containsString("common.json#/"));
+        assertThat(thrown.getMessage(), endsWith("/schema.json can not be resolved!"));
+    }
+
+    @Test
+    void should_resolve_references_into_other_documents_outside_of_definitions() throws Exception {
+        Files.writeString(
+            tempDir.resolve("common.json"),
+            """
+            { "components": { "schemas": { "address": { "title": "address", "type": "object" } } } }
+            """
+        );
+        final Path schema = tempDir.resolve("schema.json");
+        Files.writeString(
+            schema,
+            """
+            { "properties": { "home": { "$ref": "common.json#/components/schemas/address" } } }
+            """
+        );
+
+        final SchemaReferences references = SchemaReferences.of(
+            schema.toUri(),
+            read(schema),
+            document -> read(Path.of(document))
+        );
+
+        assertThat(
+            references.resolve("common.json#/components/schemas/address").map(address -> address.getString("title")),
+            is(Optional.of("address"))
+        );
+    }
+
+    private static JsonObject read(final Path file) throws IOException {
+        try (JsonReader reader = Json.createReader(Files.newBufferedReader(file))) {
+            return reader.readObject();
+        }
+    }
+}